@@ -0,0 +1,33 @@
+package mthree.com.fullstackschool.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+
+@Configuration
+// controllers inject the service classes, so proxy the class rather than its interface
+@EnableCaching(proxyTargetClass = true)
+public class CacheConfig {
+
+    public static final String TEACHERS = "teachers";
+    public static final String COURSES = "courses";
+
+    // Each cache takes a Caffeine spec, e.g. maximumSize=1000,expireAfterWrite=10m,recordStats
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${school.cache.teachers:maximumSize=1000,expireAfterWrite=10m,recordStats}") String teachers,
+            @Value("${school.cache.courses:maximumSize=10000,expireAfterWrite=10m,recordStats}") String courses) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // only the caches registered below exist, a misspelled cache name fails instead of creating a cache
+        cacheManager.setCacheNames(Collections.emptyList());
+        cacheManager.registerCustomCache(TEACHERS, Caffeine.from(teachers).build());
+        cacheManager.registerCustomCache(COURSES, Caffeine.from(courses).build());
+        return cacheManager;
+    }
+}
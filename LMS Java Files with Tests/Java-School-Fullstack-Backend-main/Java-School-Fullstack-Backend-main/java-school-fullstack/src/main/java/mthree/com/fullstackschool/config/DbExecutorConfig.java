@@ -0,0 +1,32 @@
+package mthree.com.fullstackschool.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class DbExecutorConfig {
+
+    // One thread per pooled connection (Hikari defaults to 10): more threads would only
+    // queue inside the pool. When the queue is full the caller runs the query itself,
+    // which slows request threads down instead of failing them.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService dbExecutor(@Value("${school.db-executor.threads:10}") int threads,
+                                      @Value("${school.db-executor.queue-capacity:1000}") int queueCapacity) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "db-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
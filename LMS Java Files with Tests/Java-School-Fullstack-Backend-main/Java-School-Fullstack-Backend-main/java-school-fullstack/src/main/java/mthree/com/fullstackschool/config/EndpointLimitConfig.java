@@ -0,0 +1,38 @@
+package mthree.com.fullstackschool.config;
+
+import mthree.com.fullstackschool.limits.EndpointLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "school.limits.enabled", havingValue = "true", matchIfMissing = true)
+public class EndpointLimitConfig implements WebMvcConfigurer {
+
+    private final Environment environment;
+    private final int defaultMaxConcurrent;
+    private final double defaultRate;
+
+    public EndpointLimitConfig(Environment environment,
+                               @Value("${school.limits.default.max-concurrent:50}") int defaultMaxConcurrent,
+                               @Value("${school.limits.default.rate:0}") double defaultRate) {
+        this.environment = environment;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.defaultRate = defaultRate;
+    }
+
+    @Bean
+    public EndpointLimitInterceptor endpointLimitInterceptor() {
+        return new EndpointLimitInterceptor(environment, defaultMaxConcurrent, defaultRate);
+    }
+
+    // the stats endpoint stays reachable while everything else is shedding load
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointLimitInterceptor()).excludePathPatterns("/limits/**");
+    }
+}
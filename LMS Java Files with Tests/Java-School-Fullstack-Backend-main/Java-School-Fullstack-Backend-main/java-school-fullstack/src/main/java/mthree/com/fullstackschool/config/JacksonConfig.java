@@ -0,0 +1,64 @@
+package mthree.com.fullstackschool.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class JacksonConfig {
+
+    // Blackbird swaps Jackson's reflective getter/setter calls for generated lambdas.
+    // Spring Boot installs every Module bean on the mappers its builder creates.
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // CBOR and Smile are served only to clients that ask for them with
+    // "Accept: application/cbor" or "Accept: application/x-jackson-smile".
+    // Spring MVC registers its own converters for both once the dataformats are on the
+    // classpath, built without Boot's Jackson settings or Blackbird. Boot puts a converter bean
+    // just ahead of the default of the same class but keeps that default too, so
+    // DefaultConverterFilter drops the defaults. Both formats stay after the JSON converter, so
+    // a request without a specific Accept header still gets JSON.
+    // The builder bean is prototype scoped, so each converter gets a builder of its own.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Configuration
+    static class DefaultConverterFilter implements WebMvcConfigurer {
+
+        private final MappingJackson2CborHttpMessageConverter cborConverter;
+        private final MappingJackson2SmileHttpMessageConverter smileConverter;
+
+        DefaultConverterFilter(MappingJackson2CborHttpMessageConverter cborConverter,
+                               MappingJackson2SmileHttpMessageConverter smileConverter) {
+            this.cborConverter = cborConverter;
+            this.smileConverter = smileConverter;
+        }
+
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            converters.removeIf(converter ->
+                    (converter instanceof MappingJackson2CborHttpMessageConverter && converter != cborConverter)
+                            || (converter instanceof MappingJackson2SmileHttpMessageConverter && converter != smileConverter));
+        }
+    }
+}
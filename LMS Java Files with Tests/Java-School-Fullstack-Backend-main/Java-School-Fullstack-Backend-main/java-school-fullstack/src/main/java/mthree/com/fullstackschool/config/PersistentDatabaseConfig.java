@@ -0,0 +1,43 @@
+package mthree.com.fullstackschool.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+// With the persistent profile the database lives in a file, so schema.sql (which drops
+// every table) and data.sql only run the first time, when the student table is missing.
+// Replacing Boot's initializer keeps its ordering: DAOs still wait for it to finish.
+@Configuration
+@Profile("persistent")
+public class PersistentDatabaseConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistentDatabaseConfig.class);
+
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(
+            DataSource dataSource, SqlInitializationProperties properties) {
+        return new SqlDataSourceScriptDatabaseInitializer(dataSource, properties) {
+            @Override
+            public boolean initializeDatabase() {
+                if (isSeeded(dataSource)) {
+                    log.info("School database already exists, skipping schema.sql and data.sql");
+                    return false;
+                }
+                return super.initializeDatabase();
+            }
+        };
+    }
+
+    private static boolean isSeeded(DataSource dataSource) {
+        Integer tables = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'STUDENT'", Integer.class);
+        return tables != null && tables > 0;
+    }
+}
@@ -0,0 +1,37 @@
+package mthree.com.fullstackschool.config;
+
+import mthree.com.fullstackschool.logging.QueryLog;
+import mthree.com.fullstackschool.logging.QueryLoggingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "school.query-log.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryLogConfig {
+
+    @Bean
+    public QueryLog queryLog(@Value("${school.query-log.sample-rate:0}") double sampleRate,
+                             @Value("${school.query-log.slow-ms:250}") long slowMillis) {
+        return new QueryLog(sampleRate, slowMillis);
+    }
+
+    // static so wrapping the DataSource does not pull this configuration in early
+    @Bean
+    public static BeanPostProcessor queryLoggingDataSourcePostProcessor(ObjectProvider<QueryLog> queryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof QueryLoggingDataSource)) {
+                    return new QueryLoggingDataSource((DataSource) bean, queryLog.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package mthree.com.fullstackschool.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/cache")
+@CrossOrigin
+public class CacheController {
+
+    @Autowired
+    CacheManager cacheManager;
+
+    // Caffeine statistics per cache, counts stay at 0 unless the spec includes recordStats
+    @GetMapping("/stats")
+    public Map<String, Map<String, Object>> getCacheStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+            CacheStats stats = cache.stats();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("size", cache.estimatedSize());
+            values.put("hits", stats.hitCount());
+            values.put("misses", stats.missCount());
+            values.put("hitRate", stats.hitRate());
+            values.put("evictions", stats.evictionCount());
+            result.put(name, values);
+        }
+        return result;
+    }
+}
@@ -1,10 +1,14 @@
 package mthree.com.fullstackschool.controller;
 
 import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseDetail;
+import mthree.com.fullstackschool.model.CourseWithStudents;
+import mthree.com.fullstackschool.service.AsyncCourseServiceImpl;
 import mthree.com.fullstackschool.service.CourseServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/course")
@@ -14,11 +18,14 @@ public class CourseController {
     @Autowired
     CourseServiceImpl courseService;
 
+    @Autowired
+    AsyncCourseServiceImpl asyncCourseService;
+
     @GetMapping("/courses")
     public List<Course> getAllCourses() {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return courseService.getAllCourses();
 
         //YOUR CODE ENDS HERE
     }
@@ -27,7 +34,7 @@ public class CourseController {
     public Course getCourseById(@PathVariable int id) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return courseService.getCourseById(id);
 
         //YOUR CODE ENDS HERE
     }
@@ -36,16 +43,22 @@ public class CourseController {
     public Course addCourse(@RequestBody Course course) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return courseService.addNewCourse(course);
 
         //YOUR CODE ENDS HERE
     }
 
+    // body is an array of courses, ids are filled in from one batched insert
+    @PostMapping("/add/batch")
+    public List<Course> addCourses(@RequestBody List<Course> courses) {
+        return courseService.addNewCourses(courses);
+    }
+
     @PutMapping("/{id}")
     public Course updateCourse(@PathVariable int id, @RequestBody Course course) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return courseService.updateCourseData(id, course);
 
         //YOUR CODE ENDS HERE
     }
@@ -54,8 +67,30 @@ public class CourseController {
     public void deleteCourse(@PathVariable int id) {
         //YOUR CODE STARTS HERE
 
-
+        courseService.deleteCourseById(id);
 
         //YOUR CODE ENDS HERE
     }
+
+    @GetMapping("/courses/students")
+    public List<CourseWithStudents> getAllCoursesWithStudents() {
+        return courseService.getAllCoursesWithStudents();
+    }
+
+    @GetMapping("/{id}/students")
+    public CourseWithStudents getCourseWithStudents(@PathVariable int id) {
+        return courseService.getCourseWithStudents(id);
+    }
+
+    // body is an array of course ids
+    @PostMapping("/delete")
+    public void deleteCourses(@RequestBody int[] ids) {
+        courseService.deleteCoursesByIds(ids);
+    }
+
+    // course, teacher and roster fetched in parallel, the request thread is released while they run
+    @GetMapping("/{id}/detail")
+    public CompletableFuture<CourseDetail> getCourseDetail(@PathVariable int id) {
+        return asyncCourseService.getCourseDetail(id);
+    }
 }
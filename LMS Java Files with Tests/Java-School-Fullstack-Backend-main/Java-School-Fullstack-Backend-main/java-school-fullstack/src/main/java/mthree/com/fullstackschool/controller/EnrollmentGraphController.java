@@ -0,0 +1,36 @@
+package mthree.com.fullstackschool.controller;
+
+import mthree.com.fullstackschool.service.EnrollmentGraphService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+// Id-only enrollment lookups served from the in-memory graph snapshot. The snapshot rebuilds
+// itself after enrollment writes, POST /enrollment/rebuild forces a reload.
+@RestController
+@RequestMapping("/enrollment")
+@CrossOrigin
+public class EnrollmentGraphController {
+
+    @Autowired
+    EnrollmentGraphService enrollmentGraphService;
+
+    @GetMapping("/course/{courseId}/students")
+    public int[] getStudentsInCourse(@PathVariable int courseId) {
+        return enrollmentGraphService.getStudentsInCourse(courseId);
+    }
+
+    @GetMapping("/student/{studentId}/courses")
+    public int[] getCoursesForStudent(@PathVariable int studentId) {
+        return enrollmentGraphService.getCoursesForStudent(studentId);
+    }
+
+    @GetMapping("/shared/{courseA}/{courseB}")
+    public int[] getSharedStudents(@PathVariable int courseA, @PathVariable int courseB) {
+        return enrollmentGraphService.getSharedStudents(courseA, courseB);
+    }
+
+    @PostMapping("/rebuild")
+    public int rebuild() {
+        return enrollmentGraphService.rebuild().enrollmentCount();
+    }
+}
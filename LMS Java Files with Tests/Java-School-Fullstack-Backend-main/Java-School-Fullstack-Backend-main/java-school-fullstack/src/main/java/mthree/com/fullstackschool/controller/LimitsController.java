@@ -0,0 +1,26 @@
+package mthree.com.fullstackschool.controller;
+
+import mthree.com.fullstackschool.limits.EndpointLimitInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collections;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/limits")
+@CrossOrigin
+public class LimitsController {
+
+    @Autowired
+    ObjectProvider<EndpointLimitInterceptor> endpointLimitInterceptor;
+
+    // per endpoint: configured limits, requests in flight now and at peak, admitted and refused counts.
+    // Endpoints show up after their first request; empty when school.limits.enabled=false.
+    @GetMapping("/stats")
+    public Map<String, Map<String, Object>> getLimitStats() {
+        EndpointLimitInterceptor interceptor = endpointLimitInterceptor.getIfAvailable();
+        return interceptor == null ? Collections.emptyMap() : interceptor.stats();
+    }
+}
@@ -3,7 +3,10 @@ package mthree.com.fullstackschool.controller;
 import mthree.com.fullstackschool.model.Student;
 import mthree.com.fullstackschool.service.StudentServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
 
 @RestController
@@ -17,7 +20,7 @@ public class StudentController {
     public List<Student> getAllStudents() {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return studentServiceImpl.getAllStudents();
 
         //YOUR CODE ENDS HERE
     }
@@ -26,16 +29,22 @@ public class StudentController {
     public Student addStudent(@RequestBody Student student) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return studentServiceImpl.addNewStudent(student);
 
         //YOUR CODE ENDS HERE
     }
 
+    // body is an array of students, ids are filled in from one batched insert
+    @PostMapping("/add/batch")
+    public List<Student> addStudents(@RequestBody List<Student> students) {
+        return studentServiceImpl.addNewStudents(students);
+    }
+
     @GetMapping("/{id}")
     public Student getStudentById(@PathVariable int id) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return studentServiceImpl.getStudentById(id);
 
         //YOUR CODE ENDS HERE
     }
@@ -44,7 +53,7 @@ public class StudentController {
     public Student updateStudent(@PathVariable int id, @RequestBody Student student) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return studentServiceImpl.updateStudentData(id, student);
 
         //YOUR CODE ENDS HERE
     }
@@ -53,7 +62,7 @@ public class StudentController {
     public void deleteStudent(@PathVariable int id) {
         //YOUR CODE STARTS HERE
 
-
+        studentServiceImpl.deleteStudentById(id);
 
         //YOUR CODE ENDS HERE
     }
@@ -62,7 +71,7 @@ public class StudentController {
     public void deleteStudentFromCourse(@PathVariable int studentId, @PathVariable int courseId) {
         //YOUR CODE STARTS HERE
 
-
+        studentServiceImpl.deleteStudentFromCourse(studentId, courseId);
 
         //YOUR CODE ENDS HERE
     }
@@ -71,8 +80,33 @@ public class StudentController {
     public void addStudentToCourse(@PathVariable int studentId, @PathVariable int courseId) {
         //YOUR CODE STARTS HERE
 
-
+        studentServiceImpl.addStudentToCourse(studentId, courseId);
 
         //YOUR CODE ENDS HERE
     }
+
+    // a duplicate or an unknown id adds nothing and answers 409
+    @PostMapping("/enroll/{courseId}")
+    public void addStudentsToCourse(@PathVariable int courseId, @RequestBody int[] studentIds) {
+        try {
+            studentServiceImpl.addStudentsToCourse(courseId, studentIds);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "no students added", ex);
+        }
+    }
+
+    // body is a list of [studentId, courseId] pairs, enrolled all or nothing like the batch above
+    @PostMapping("/enroll")
+    public void enroll(@RequestBody List<int[]> pairs) {
+        for (int[] pair : pairs) {
+            if (pair == null || pair.length != 2) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "each enrollment must be [studentId, courseId]");
+            }
+        }
+        try {
+            studentServiceImpl.enroll(pairs);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "no enrollments added", ex);
+        }
+    }
 }
@@ -18,7 +18,7 @@ public class TeacherController {
     public List<Teacher> getAllTeachers() {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return teacherServiceImpl.getAllTeachers();
 
         //YOUR CODE ENDS HERE
     }
@@ -27,7 +27,7 @@ public class TeacherController {
     public Teacher getTeacherById(@PathVariable int id) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return teacherServiceImpl.getTeacherById(id);
 
         //YOUR CODE ENDS HERE
     }
@@ -36,16 +36,22 @@ public class TeacherController {
     public Teacher addTeacher(@RequestBody Teacher teacher) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return teacherServiceImpl.addNewTeacher(teacher);
 
         //YOUR CODE ENDS HERE
     }
 
+    // body is an array of teachers, ids are filled in from one batched insert
+    @PostMapping("/add/batch")
+    public List<Teacher> addTeachers(@RequestBody List<Teacher> teachers) {
+        return teacherServiceImpl.addNewTeachers(teachers);
+    }
+
     @PutMapping("/{id}")
     public Teacher updateTeacher(@PathVariable int id, @RequestBody Teacher teacher) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return teacherServiceImpl.updateTeacherData(id, teacher);
 
         //YOUR CODE ENDS HERE
     }
@@ -54,8 +60,24 @@ public class TeacherController {
     public void deleteTeacher(@PathVariable int id) {
         //YOUR CODE STARTS HERE
 
-
+        teacherServiceImpl.deleteTeacherById(id);
 
         //YOUR CODE ENDS HERE
     }
+
+    @DeleteMapping("/{id}/courses")
+    public void deleteTeacherWithCourses(@PathVariable int id) {
+        teacherServiceImpl.deleteTeacherWithCourses(id);
+    }
+
+    // body is an array of teacher ids
+    @PostMapping("/delete")
+    public void deleteTeachersWithCourses(@RequestBody int[] ids) {
+        teacherServiceImpl.deleteTeachersWithCourses(ids);
+    }
+
+    @DeleteMapping("/dept/{dept}")
+    public int deleteDepartment(@PathVariable String dept) {
+        return teacherServiceImpl.deleteDepartment(dept);
+    }
 }
@@ -0,0 +1,67 @@
+package mthree.com.fullstackschool.dao;
+
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+// Inserts a list of rows through one prepared statement with addBatch/executeBatch and copies the
+// generated keys back onto the items in order, instead of one round trip and key holder per row
+final class BatchInserts {
+
+    // rows sent per executeBatch call
+    static final int BATCH_SIZE = 1000;
+
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(PreparedStatement statement, T item) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface KeySetter<T> {
+        void setKey(T item, int key);
+    }
+
+    private BatchInserts() {
+    }
+
+    static <T> List<T> insert(JdbcTemplate jdbcTemplate, String sql, List<T> items,
+                              Binder<T> binder, KeySetter<T> keySetter) {
+        if (items.isEmpty()) {
+            return items;
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<T>>) conn -> {
+            try (PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < items.size(); from += BATCH_SIZE) {
+                    List<T> chunk = items.subList(from, Math.min(items.size(), from + BATCH_SIZE));
+                    for (T item : chunk) {
+                        binder.bind(statement, item);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    setKeys(statement, chunk, keySetter);
+                }
+            }
+            return items;
+        });
+    }
+
+    private static <T> void setKeys(PreparedStatement statement, List<T> chunk, KeySetter<T> keySetter)
+            throws SQLException {
+        int i = 0;
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            while (keys.next() && i < chunk.size()) {
+                keySetter.setKey(chunk.get(i++), keys.getInt(1));
+            }
+        }
+        if (i != chunk.size()) {
+            throw new InvalidDataAccessResourceUsageException(
+                    "Expected " + chunk.size() + " generated keys from batch insert but got " + i);
+        }
+    }
+}
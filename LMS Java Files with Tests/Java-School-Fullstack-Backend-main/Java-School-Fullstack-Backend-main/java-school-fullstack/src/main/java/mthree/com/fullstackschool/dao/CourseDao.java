@@ -1,6 +1,7 @@
 package mthree.com.fullstackschool.dao;
 
 import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseWithStudents;
 
 import java.util.List;
 
@@ -8,6 +9,8 @@ public interface CourseDao {
 
     Course createNewCourse(Course course);
 
+    List<Course> createNewCourses(List<Course> courses);
+
     List<Course> getAllCourses();
 
     Course findCourseById(int id);
@@ -17,4 +20,10 @@ public interface CourseDao {
     void deleteCourse(int id);
 
     void deleteAllStudentsFromCourse(int courseId);
+
+    void deleteCourses(int[] ids);
+
+    CourseWithStudents findCourseWithStudents(int id);
+
+    List<CourseWithStudents> getAllCoursesWithStudents();
 }
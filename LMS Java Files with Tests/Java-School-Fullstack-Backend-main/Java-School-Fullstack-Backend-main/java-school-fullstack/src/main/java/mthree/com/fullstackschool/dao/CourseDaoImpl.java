@@ -1,19 +1,33 @@
 package mthree.com.fullstackschool.dao;
 
 import mthree.com.fullstackschool.dao.mappers.CourseMapper;
+import mthree.com.fullstackschool.dao.mappers.CourseWithStudentsExtractor;
 import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseWithStudents;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.List;
+import java.util.Objects;
 
 @Repository
+@Profile("!memory")
 public class CourseDaoImpl implements CourseDao {
 
     private final JdbcTemplate jdbcTemplate;
 
+    private static final String COURSE_WITH_STUDENTS_SQL = "SELECT " + CourseWithStudentsExtractor.COLUMNS
+            + " FROM course c"
+            + " LEFT JOIN course_student cs ON cs.course_id = c.cid"
+            + " LEFT JOIN student s ON s.sid = cs.student_id";
+
     public CourseDaoImpl(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
@@ -22,18 +36,40 @@ public class CourseDaoImpl implements CourseDao {
     public Course createNewCourse(Course course) {
         //YOUR CODE STARTS HERE
 
+        final String sql = "INSERT INTO course(courseCode, courseDesc, teacherId) VALUES (?, ?, ?)";
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(conn -> {
+            PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, course.getCourseName());
+            statement.setString(2, course.getCourseDesc());
+            setTeacherId(statement, 3, course.getTeacherId());
+            return statement;
+        }, keyHolder);
 
-        return null;
+        course.setCourseId(Objects.requireNonNull(keyHolder.getKey()).intValue());
+        return course;
 
         //YOUR CODE ENDS HERE
     }
 
+    @Override
+    @Transactional
+    public List<Course> createNewCourses(List<Course> courses) {
+        final String sql = "INSERT INTO course(courseCode, courseDesc, teacherId) VALUES (?, ?, ?)";
+        return BatchInserts.insert(jdbcTemplate, sql, courses, (statement, course) -> {
+            statement.setString(1, course.getCourseName());
+            statement.setString(2, course.getCourseDesc());
+            setTeacherId(statement, 3, course.getTeacherId());
+        }, Course::setCourseId);
+    }
+
     @Override
     public List<Course> getAllCourses() {
         //YOUR CODE STARTS HERE
 
-
-        return null;
+        final String sql = "SELECT " + CourseMapper.COLUMNS + " FROM course";
+        return jdbcTemplate.query(sql, CourseMapper.INSTANCE);
 
         //YOUR CODE ENDS HERE
     }
@@ -42,7 +78,8 @@ public class CourseDaoImpl implements CourseDao {
     public Course findCourseById(int id) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        final String sql = "SELECT " + CourseMapper.COLUMNS + " FROM course WHERE cid = ?";
+        return jdbcTemplate.queryForObject(sql, CourseMapper.INSTANCE, id);
 
         //YOUR CODE ENDS HERE
     }
@@ -51,16 +88,25 @@ public class CourseDaoImpl implements CourseDao {
     public void updateCourse(Course course) {
         //YOUR CODE STARTS HERE
 
-
+        final String sql = "UPDATE course SET courseCode = ?, courseDesc = ?, teacherId = ? WHERE cid = ?";
+        jdbcTemplate.update(sql, statement -> {
+            statement.setString(1, course.getCourseName());
+            statement.setString(2, course.getCourseDesc());
+            setTeacherId(statement, 3, course.getTeacherId());
+            statement.setInt(4, course.getCourseId());
+        });
 
         //YOUR CODE ENDS HERE
     }
 
     @Override
+    @Transactional
     public void deleteCourse(int id) {
         //YOUR CODE STARTS HERE
 
-
+        // course_student has a foreign key to course, so its rows go first
+        jdbcTemplate.update("DELETE FROM course_student WHERE course_id = ?", id);
+        jdbcTemplate.update("DELETE FROM course WHERE cid = ?", id);
 
         //YOUR CODE ENDS HERE
     }
@@ -69,8 +115,38 @@ public class CourseDaoImpl implements CourseDao {
     public void deleteAllStudentsFromCourse(int courseId) {
         //YOUR CODE STARTS HERE
 
-
+        jdbcTemplate.update("DELETE FROM course_student WHERE course_id = ?", courseId);
 
         //YOUR CODE ENDS HERE
     }
+
+    @Override
+    public CourseWithStudents findCourseWithStudents(int id) {
+        final String sql = COURSE_WITH_STUDENTS_SQL + " WHERE c.cid = ? ORDER BY s.sid";
+        // throws EmptyResultDataAccessException like findCourseById when there is no such course
+        return DataAccessUtils.requiredSingleResult(
+                jdbcTemplate.query(sql, CourseWithStudentsExtractor.INSTANCE, id));
+    }
+
+    @Override
+    public List<CourseWithStudents> getAllCoursesWithStudents() {
+        final String sql = COURSE_WITH_STUDENTS_SQL + " ORDER BY c.cid, s.sid";
+        return jdbcTemplate.query(sql, CourseWithStudentsExtractor.INSTANCE);
+    }
+
+    @Override
+    @Transactional
+    public void deleteCourses(int[] ids) {
+        jdbcTemplate.update("DELETE FROM course_student WHERE course_id = ANY(?)", ps -> IdArrays.setIds(ps, 1, ids));
+        jdbcTemplate.update("DELETE FROM course WHERE cid = ANY(?)", ps -> IdArrays.setIds(ps, 1, ids));
+    }
+
+    // A teacherId of 0 means the course has no teacher yet
+    private static void setTeacherId(PreparedStatement statement, int index, int teacherId) throws SQLException {
+        if (teacherId == 0) {
+            statement.setNull(index, Types.INTEGER);
+        } else {
+            statement.setInt(index, teacherId);
+        }
+    }
 }
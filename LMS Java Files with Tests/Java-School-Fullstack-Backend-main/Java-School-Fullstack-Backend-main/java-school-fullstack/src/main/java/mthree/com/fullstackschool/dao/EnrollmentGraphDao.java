@@ -0,0 +1,8 @@
+package mthree.com.fullstackschool.dao;
+
+import mthree.com.fullstackschool.model.EnrollmentGraph;
+
+public interface EnrollmentGraphDao {
+
+    EnrollmentGraph loadEnrollmentGraph();
+}
@@ -0,0 +1,47 @@
+package mthree.com.fullstackschool.dao;
+
+import mthree.com.fullstackschool.model.EnrollmentGraph;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+@Repository
+@Profile("!memory")
+public class EnrollmentGraphDaoImpl implements EnrollmentGraphDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnrollmentGraphDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public EnrollmentGraph loadEnrollmentGraph() {
+        // one scan of course_student straight into int arrays, rows are never mapped to objects
+        PairCollector pairs = new PairCollector();
+        jdbcTemplate.query("SELECT student_id, course_id FROM course_student", pairs);
+        return EnrollmentGraph.build(pairs.studentIds, pairs.courseIds, pairs.count);
+    }
+
+    private static class PairCollector implements RowCallbackHandler {
+        int[] studentIds = new int[1024];
+        int[] courseIds = new int[1024];
+        int count;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (count == studentIds.length) {
+                studentIds = Arrays.copyOf(studentIds, count * 2);
+                courseIds = Arrays.copyOf(courseIds, count * 2);
+            }
+            studentIds[count] = rs.getInt(1);
+            courseIds[count] = rs.getInt(2);
+            count++;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package mthree.com.fullstackschool.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+// Binds an id list as one SQL array parameter, so "WHERE id = ANY(?)" keeps a single
+// statement text no matter how many ids there are
+final class IdArrays {
+
+    private IdArrays() {
+    }
+
+    static void setIds(PreparedStatement statement, int index, int[] ids) throws SQLException {
+        Integer[] boxed = new Integer[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            boxed[i] = ids[i];
+        }
+        statement.setArray(index, statement.getConnection().createArrayOf("INTEGER", boxed));
+    }
+}
@@ -2,12 +2,15 @@ package mthree.com.fullstackschool.dao;
 
 import mthree.com.fullstackschool.model.Student;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface StudentDao {
 
     Student createNewStudent(Student student);
 
+    List<Student> createNewStudents(List<Student> students);
+
     List<Student> getAllStudents();
 
     Student findStudentById(int id);
@@ -19,4 +22,10 @@ public interface StudentDao {
     void addStudentToCourse(int studentId, int courseId);
 
     void deleteStudentFromCourse(int studentId, int courseId);
+
+    void addStudentsToCourse(int courseId, int[] studentIds);
+
+    void enroll(Collection<int[]> pairs);
+
+    List<Student> getStudentsInCourse(int courseId);
 }
@@ -3,6 +3,9 @@ package mthree.com.fullstackschool.dao;
 import mthree.com.fullstackschool.dao.mappers.StudentMapper;
 import mthree.com.fullstackschool.model.Student;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
@@ -10,37 +13,74 @@ import org.springframework.transaction.annotation.Transactional;
 
 
 import java.sql.*;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
 @Repository
+@Profile("!memory")
 public class StudentDaoImpl implements StudentDao {
 
     @Autowired
     private final JdbcTemplate jdbcTemplate;
 
+    // rows sent per JDBC batch by the bulk enrollment methods
+    private int batchSize = 1000;
+
+    // Single and bulk enrollment share this statement, so a pair that is already enrolled fails
+    // with DuplicateKeyException on every path. The bulk methods then roll back the whole call.
+    private static final String ENROLL_SQL = "INSERT INTO course_student(student_id, course_id) VALUES (?, ?)";
+
     public StudentDaoImpl(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    @Value("${school.enrollment.batch-size:1000}")
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("school.enrollment.batch-size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
     @Override
     @Transactional
     public Student createNewStudent(Student student) {
         //YOUR CODE STARTS HERE
 
+        final String sql = "INSERT INTO student(fName, lName) VALUES (?, ?)";
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
 
-        return null;
+        jdbcTemplate.update((Connection conn) -> {
+            PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, student.getStudentFirstName());
+            statement.setString(2, student.getStudentLastName());
+            return statement;
+        }, keyHolder);
+
+        student.setStudentId(Objects.requireNonNull(keyHolder.getKey()).intValue());
+        return student;
 
 
         //YOUR CODE ENDS HERE
     }
 
+    @Override
+    @Transactional
+    public List<Student> createNewStudents(List<Student> students) {
+        final String sql = "INSERT INTO student(fName, lName) VALUES (?, ?)";
+        return BatchInserts.insert(jdbcTemplate, sql, students, (statement, student) -> {
+            statement.setString(1, student.getStudentFirstName());
+            statement.setString(2, student.getStudentLastName());
+        }, Student::setStudentId);
+    }
+
     @Override
     public List<Student> getAllStudents() {
         //YOUR CODE STARTS HERE
 
-
-        return null;
+        final String sql = "SELECT " + StudentMapper.COLUMNS + " FROM student";
+        return jdbcTemplate.query(sql, StudentMapper.INSTANCE);
 
         //YOUR CODE ENDS HERE
     }
@@ -49,7 +89,8 @@ public class StudentDaoImpl implements StudentDao {
     public Student findStudentById(int id) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        final String sql = "SELECT " + StudentMapper.COLUMNS + " FROM student WHERE sid = ?";
+        return jdbcTemplate.queryForObject(sql, StudentMapper.INSTANCE, id);
 
         //YOUR CODE ENDS HERE
     }
@@ -58,14 +99,23 @@ public class StudentDaoImpl implements StudentDao {
     public void updateStudent(Student student) {
         //YOUR CODE STARTS HERE
 
+        final String sql = "UPDATE student SET fName = ?, lName = ? WHERE sid = ?";
+        jdbcTemplate.update(sql,
+                student.getStudentFirstName(),
+                student.getStudentLastName(),
+                student.getStudentId());
 
         //YOUR CODE ENDS HERE
     }
 
     @Override
+    @Transactional
     public void deleteStudent(int id) {
         //YOUR CODE STARTS HERE
 
+        // drop the enrollments first so no course_student row points at a missing student
+        jdbcTemplate.update("DELETE FROM course_student WHERE student_id = ?", id);
+        jdbcTemplate.update("DELETE FROM student WHERE sid = ?", id);
 
         //YOUR CODE ENDS HERE
     }
@@ -74,7 +124,7 @@ public class StudentDaoImpl implements StudentDao {
     public void addStudentToCourse(int studentId, int courseId) {
         //YOUR CODE STARTS HERE
 
-
+        jdbcTemplate.update(ENROLL_SQL, studentId, courseId);
 
         //YOUR CODE ENDS HERE
     }
@@ -83,8 +133,50 @@ public class StudentDaoImpl implements StudentDao {
     public void deleteStudentFromCourse(int studentId, int courseId) {
         //YOUR CODE STARTS HERE
 
-
+        final String sql = "DELETE FROM course_student WHERE student_id = ? AND course_id = ?";
+        jdbcTemplate.update(sql, studentId, courseId);
 
         //YOUR CODE ENDS HERE
     }
+
+    @Override
+    @Transactional
+    public void addStudentsToCourse(int courseId, int[] studentIds) {
+        for (int from = 0; from < studentIds.length; from += batchSize) {
+            final int offset = from;
+            final int size = Math.min(batchSize, studentIds.length - from);
+            jdbcTemplate.batchUpdate(ENROLL_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setPair(ps, studentIds[offset + i], courseId);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    @Override
+    @Transactional
+    public void enroll(Collection<int[]> pairs) {
+        // each pair is {studentId, courseId}
+        jdbcTemplate.batchUpdate(ENROLL_SQL, pairs, batchSize,
+                (ps, pair) -> setPair(ps, pair[0], pair[1]));
+    }
+
+    @Override
+    public List<Student> getStudentsInCourse(int courseId) {
+        final String sql = "SELECT s.sid, s.fName, s.lName FROM student s"
+                + " JOIN course_student cs ON cs.student_id = s.sid"
+                + " WHERE cs.course_id = ? ORDER BY s.sid";
+        return jdbcTemplate.query(sql, StudentMapper.INSTANCE, courseId);
+    }
+
+    private static void setPair(PreparedStatement ps, int studentId, int courseId) throws SQLException {
+        ps.setInt(1, studentId);
+        ps.setInt(2, courseId);
+    }
 }
@@ -8,11 +8,21 @@ public interface TeacherDao {
 
     Teacher createNewTeacher(Teacher teacher);
 
+    List<Teacher> createNewTeachers(List<Teacher> teachers);
+
     List<Teacher> getAllTeachers();
 
     Teacher findTeacherById(int id);
 
+    Teacher findTeacherByCourseId(int courseId);
+
     void updateTeacher(Teacher teacher);
 
     void deleteTeacher(int id);
+
+    void deleteTeacherWithCourses(int id);
+
+    void deleteTeachersWithCourses(int[] ids);
+
+    int deleteDepartment(String dept);
 }
@@ -2,15 +2,19 @@ package mthree.com.fullstackschool.dao;
 
 import mthree.com.fullstackschool.dao.mappers.TeacherMapper;
 import mthree.com.fullstackschool.model.Teacher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Objects;
 
 @Repository
+@Profile("!memory")
 public class TeacherDaoImpl implements TeacherDao {
 
     private final JdbcTemplate jdbcTemplate;
@@ -23,16 +27,40 @@ public class TeacherDaoImpl implements TeacherDao {
     public Teacher createNewTeacher(Teacher teacher) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        final String sql = "INSERT INTO teacher(tFName, tLName, dept) VALUES (?, ?, ?)";
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(conn -> {
+            PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, teacher.getTeacherFName());
+            statement.setString(2, teacher.getTeacherLName());
+            statement.setString(3, teacher.getDept());
+            return statement;
+        }, keyHolder);
+
+        teacher.setTeacherId(Objects.requireNonNull(keyHolder.getKey()).intValue());
+        return teacher;
 
         //YOUR CODE ENDS HERE
     }
 
+    @Override
+    @Transactional
+    public List<Teacher> createNewTeachers(List<Teacher> teachers) {
+        final String sql = "INSERT INTO teacher(tFName, tLName, dept) VALUES (?, ?, ?)";
+        return BatchInserts.insert(jdbcTemplate, sql, teachers, (statement, teacher) -> {
+            statement.setString(1, teacher.getTeacherFName());
+            statement.setString(2, teacher.getTeacherLName());
+            statement.setString(3, teacher.getDept());
+        }, Teacher::setTeacherId);
+    }
+
     @Override
     public List<Teacher> getAllTeachers() {
         //YOUR CODE STARTS HERE
 
-        return null;
+        final String sql = "SELECT " + TeacherMapper.COLUMNS + " FROM teacher";
+        return jdbcTemplate.query(sql, TeacherMapper.INSTANCE);
 
         //YOUR CODE ENDS HERE
     }
@@ -41,15 +69,30 @@ public class TeacherDaoImpl implements TeacherDao {
     public Teacher findTeacherById(int id) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        final String sql = "SELECT " + TeacherMapper.COLUMNS + " FROM teacher WHERE tid = ?";
+        return jdbcTemplate.queryForObject(sql, TeacherMapper.INSTANCE, id);
 
         //YOUR CODE ENDS HERE
     }
 
+    @Override
+    public Teacher findTeacherByCourseId(int courseId) {
+        // join on the course so the teacher can be fetched without loading the course first
+        final String sql = "SELECT t.tid, t.tFName, t.tLName, t.dept FROM teacher t"
+                + " JOIN course c ON c.teacherId = t.tid WHERE c.cid = ?";
+        return jdbcTemplate.queryForObject(sql, TeacherMapper.INSTANCE, courseId);
+    }
+
     @Override
     public void updateTeacher(Teacher t) {
         //YOUR CODE STARTS HERE
 
+        final String sql = "UPDATE teacher SET tFName = ?, tLName = ?, dept = ? WHERE tid = ?";
+        jdbcTemplate.update(sql,
+                t.getTeacherFName(),
+                t.getTeacherLName(),
+                t.getDept(),
+                t.getTeacherId());
 
         //YOUR CODE ENDS HERE
     }
@@ -58,7 +101,39 @@ public class TeacherDaoImpl implements TeacherDao {
     public void deleteTeacher(int id) {
         //YOUR CODE STARTS HERE
 
+        jdbcTemplate.update("DELETE FROM teacher WHERE tid = ?", id);
 
         //YOUR CODE ENDS HERE
     }
+
+    // Each bulk delete removes enrollments, then courses, then teachers:
+    // three statements in one transaction however many courses are involved
+
+    @Override
+    @Transactional
+    public void deleteTeacherWithCourses(int id) {
+        jdbcTemplate.update("DELETE FROM course_student WHERE course_id IN "
+                + "(SELECT cid FROM course WHERE teacherId = ?)", id);
+        jdbcTemplate.update("DELETE FROM course WHERE teacherId = ?", id);
+        jdbcTemplate.update("DELETE FROM teacher WHERE tid = ?", id);
+    }
+
+    @Override
+    @Transactional
+    public void deleteTeachersWithCourses(int[] ids) {
+        jdbcTemplate.update("DELETE FROM course_student WHERE course_id IN "
+                + "(SELECT cid FROM course WHERE teacherId = ANY(?))", ps -> IdArrays.setIds(ps, 1, ids));
+        jdbcTemplate.update("DELETE FROM course WHERE teacherId = ANY(?)", ps -> IdArrays.setIds(ps, 1, ids));
+        jdbcTemplate.update("DELETE FROM teacher WHERE tid = ANY(?)", ps -> IdArrays.setIds(ps, 1, ids));
+    }
+
+    @Override
+    @Transactional
+    public int deleteDepartment(String dept) {
+        jdbcTemplate.update("DELETE FROM course_student WHERE course_id IN "
+                + "(SELECT c.cid FROM course c JOIN teacher t ON t.tid = c.teacherId WHERE t.dept = ?)", dept);
+        jdbcTemplate.update("DELETE FROM course WHERE teacherId IN "
+                + "(SELECT tid FROM teacher WHERE dept = ?)", dept);
+        return jdbcTemplate.update("DELETE FROM teacher WHERE dept = ?", dept);
+    }
 }
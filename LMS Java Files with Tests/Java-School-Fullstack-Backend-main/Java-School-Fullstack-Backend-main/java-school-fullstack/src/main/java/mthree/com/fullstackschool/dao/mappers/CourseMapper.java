@@ -6,11 +6,23 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class CourseMapper implements RowMapper<Course> {
+
+    // The mapper holds no state, so one instance is shared by every query
+    public static final CourseMapper INSTANCE = new CourseMapper();
+
+    // Select these columns in this order, mapRow reads them by position
+    public static final String COLUMNS = "cid, courseCode, courseDesc, teacherId";
+
     @Override
     public Course mapRow(ResultSet rs, int rowNum) throws SQLException {
         //YOUR CODE STARTS HERE
 
-        return null;
+        Course course = new Course();
+        course.setCourseId(rs.getInt(1));
+        course.setCourseName(rs.getString(2));
+        course.setCourseDesc(rs.getString(3));
+        course.setTeacherId(rs.getInt(4));
+        return course;
 
         //YOUR CODE ENDS HERE
     }
@@ -0,0 +1,46 @@
+package mthree.com.fullstackschool.dao.mappers;
+
+import mthree.com.fullstackschool.model.CourseWithStudents;
+import mthree.com.fullstackschool.model.Student;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CourseWithStudentsExtractor implements ResultSetExtractor<List<CourseWithStudents>> {
+
+    // The extractor holds no state, so one instance is shared by every query
+    public static final CourseWithStudentsExtractor INSTANCE = new CourseWithStudentsExtractor();
+
+    // Select these columns in this order from course c LEFT JOIN student s, ordered by c.cid
+    public static final String COLUMNS = "c.cid, c.courseCode, c.courseDesc, c.teacherId, s.sid, s.fName, s.lName";
+
+    @Override
+    public List<CourseWithStudents> extractData(ResultSet rs) throws SQLException {
+        List<CourseWithStudents> courses = new ArrayList<>();
+        CourseWithStudents current = null;
+        while (rs.next()) {
+            // rows for one course are adjacent, so a new cid starts the next course
+            int courseId = rs.getInt(1);
+            if (current == null || current.getCourseId() != courseId) {
+                current = new CourseWithStudents();
+                current.setCourseId(courseId);
+                current.setCourseName(rs.getString(2));
+                current.setCourseDesc(rs.getString(3));
+                current.setTeacherId(rs.getInt(4));
+                courses.add(current);
+            }
+            // a course with no enrollments comes back as one row with a null sid
+            int studentId = rs.getInt(5);
+            if (!rs.wasNull()) {
+                Student student = new Student();
+                student.setStudentId(studentId);
+                student.setStudentFirstName(rs.getString(6));
+                student.setStudentLastName(rs.getString(7));
+                current.getStudents().add(student);
+            }
+        }
+        return courses;
+    }
+}
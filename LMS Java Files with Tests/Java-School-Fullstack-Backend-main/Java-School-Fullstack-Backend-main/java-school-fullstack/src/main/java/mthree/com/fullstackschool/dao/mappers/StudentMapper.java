@@ -6,12 +6,22 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class StudentMapper implements RowMapper<Student> {
+
+    // The mapper holds no state, so one instance is shared by every query
+    public static final StudentMapper INSTANCE = new StudentMapper();
+
+    // Select these columns in this order, mapRow reads them by position
+    public static final String COLUMNS = "sid, fName, lName";
+
     @Override
     public Student mapRow(ResultSet rs, int rowNum) throws SQLException {
         //YOUR CODE STARTS HERE
 
-
-        return null;
+        Student student = new Student();
+        student.setStudentId(rs.getInt(1));
+        student.setStudentFirstName(rs.getString(2));
+        student.setStudentLastName(rs.getString(3));
+        return student;
 
         //YOUR CODE ENDS HERE
     }
@@ -6,12 +6,23 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class TeacherMapper implements RowMapper<Teacher> {
+
+    // The mapper holds no state, so one instance is shared by every query
+    public static final TeacherMapper INSTANCE = new TeacherMapper();
+
+    // Select these columns in this order, mapRow reads them by position
+    public static final String COLUMNS = "tid, tFName, tLName, dept";
+
     @Override
     public Teacher mapRow(ResultSet rs, int rowNum) throws SQLException {
         //YOUR CODE STARTS HERE
 
-
-        return null;
+        Teacher teacher = new Teacher();
+        teacher.setTeacherId(rs.getInt(1));
+        teacher.setTeacherFName(rs.getString(2));
+        teacher.setTeacherLName(rs.getString(3));
+        teacher.setDept(rs.getString(4));
+        return teacher;
 
         //YOUR CODE ENDS HERE
     }
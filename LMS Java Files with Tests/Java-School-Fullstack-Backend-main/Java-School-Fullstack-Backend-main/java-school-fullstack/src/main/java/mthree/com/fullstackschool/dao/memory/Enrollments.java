@@ -0,0 +1,144 @@
+package mthree.com.fullstackschool.dao.memory;
+
+import mthree.com.fullstackschool.model.EnrollmentGraph;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// The course_student relation, indexed both ways with int keys and int sets. Both indexes
+// change under one write lock so a student's courses and a course's students never disagree,
+// and every read takes the read lock.
+class Enrollments {
+
+    private final IntSetMap coursesByStudent = new IntSetMap();
+    private final IntSetMap studentsByCourse = new IntSetMap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Runs the action under the write lock, which is reentrant. The DAOs pair their
+    // student/course existence checks and row deletes with the enrollment changes this way,
+    // so no enrollment can be added for a row that is being deleted.
+    void locked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean add(int studentId, int courseId) {
+        lock.writeLock().lock();
+        try {
+            if (!coursesByStudent.getOrCreate(studentId).add(courseId)) {
+                return false;
+            }
+            studentsByCourse.getOrCreate(courseId).add(studentId);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(int studentId, int courseId) {
+        lock.writeLock().lock();
+        try {
+            removeFrom(coursesByStudent, studentId, courseId);
+            removeFrom(studentsByCourse, courseId, studentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeStudent(int studentId) {
+        lock.writeLock().lock();
+        try {
+            IntSet courses = coursesByStudent.remove(studentId);
+            if (courses != null) {
+                for (int courseId : courses.toSortedArray()) {
+                    removeFrom(studentsByCourse, courseId, studentId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeCourse(int courseId) {
+        lock.writeLock().lock();
+        try {
+            IntSet students = studentsByCourse.remove(courseId);
+            if (students != null) {
+                for (int studentId : students.toSortedArray()) {
+                    removeFrom(coursesByStudent, studentId, courseId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int[] studentsIn(int courseId) {
+        return sorted(studentsByCourse, courseId);
+    }
+
+    int[] coursesOf(int studentId) {
+        return sorted(coursesByStudent, studentId);
+    }
+
+    EnrollmentGraph toGraph() {
+        lock.readLock().lock();
+        try {
+            int total = 0;
+            int[][] byStudent = new int[coursesByStudent.size()][];
+            int[] students = new int[coursesByStudent.size()];
+            int[] n = {0};
+            coursesByStudent.forEach((studentId, courses) -> {
+                students[n[0]] = studentId;
+                byStudent[n[0]++] = courses.toSortedArray();
+            });
+            for (int[] courses : byStudent) {
+                total += courses.length;
+            }
+            int[] studentIds = new int[total];
+            int[] courseIds = new int[total];
+            int count = 0;
+            for (int s = 0; s < students.length; s++) {
+                for (int courseId : byStudent[s]) {
+                    studentIds[count] = students[s];
+                    courseIds[count] = courseId;
+                    count++;
+                }
+            }
+            return EnrollmentGraph.build(studentIds, courseIds, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            coursesByStudent.clear();
+            studentsByCourse.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int[] sorted(IntSetMap index, int key) {
+        lock.readLock().lock();
+        try {
+            IntSet values = index.get(key);
+            return values == null ? new int[0] : values.toSortedArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void removeFrom(IntSetMap index, int key, int value) {
+        IntSet values = index.get(key);
+        if (values != null && values.remove(value) && values.size() == 0) {
+            index.remove(key);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package mthree.com.fullstackschool.dao.memory;
+
+import mthree.com.fullstackschool.dao.CourseDao;
+import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseWithStudents;
+import mthree.com.fullstackschool.model.Student;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@Profile("memory")
+public class InMemoryCourseDao implements CourseDao {
+
+    private final InMemorySchool school;
+
+    public InMemoryCourseDao(InMemorySchool school) {
+        this.school = school;
+    }
+
+    @Override
+    public Course createNewCourse(Course course) {
+        course.setCourseId(school.courseIds.incrementAndGet());
+        school.courses.put(course.getCourseId(), copy(course));
+        return course;
+    }
+
+    @Override
+    public List<Course> createNewCourses(List<Course> courses) {
+        for (Course course : courses) {
+            createNewCourse(course);
+        }
+        return courses;
+    }
+
+    @Override
+    public List<Course> getAllCourses() {
+        List<Course> courses = new ArrayList<>(school.courses.size());
+        for (Course course : school.courses.values()) {
+            courses.add(copy(course));
+        }
+        courses.sort(Comparator.comparingInt(Course::getCourseId));
+        return courses;
+    }
+
+    @Override
+    public Course findCourseById(int id) {
+        Course course = school.courses.get(id);
+        if (course == null) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return copy(course);
+    }
+
+    @Override
+    public void updateCourse(Course course) {
+        school.courses.computeIfPresent(course.getCourseId(), (id, old) -> copy(course));
+    }
+
+    @Override
+    public void deleteCourse(int id) {
+        school.enrollments.locked(() -> {
+            school.enrollments.removeCourse(id);
+            school.courses.remove(id);
+        });
+    }
+
+    @Override
+    public void deleteAllStudentsFromCourse(int courseId) {
+        school.enrollments.removeCourse(courseId);
+    }
+
+    @Override
+    public void deleteCourses(int[] ids) {
+        for (int id : ids) {
+            deleteCourse(id);
+        }
+    }
+
+    @Override
+    public CourseWithStudents findCourseWithStudents(int id) {
+        Course course = school.courses.get(id);
+        if (course == null) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return withStudents(course);
+    }
+
+    @Override
+    public List<CourseWithStudents> getAllCoursesWithStudents() {
+        List<CourseWithStudents> courses = new ArrayList<>(school.courses.size());
+        for (Course course : school.courses.values()) {
+            courses.add(withStudents(course));
+        }
+        courses.sort(Comparator.comparingInt(Course::getCourseId));
+        return courses;
+    }
+
+    private CourseWithStudents withStudents(Course course) {
+        CourseWithStudents result = new CourseWithStudents();
+        result.setCourseId(course.getCourseId());
+        result.setCourseName(course.getCourseName());
+        result.setCourseDesc(course.getCourseDesc());
+        result.setTeacherId(course.getTeacherId());
+        for (int studentId : school.enrollments.studentsIn(course.getCourseId())) {
+            Student student = school.students.get(studentId);
+            if (student != null) {
+                result.getStudents().add(InMemoryStudentDao.copy(student));
+            }
+        }
+        return result;
+    }
+
+    static Course copy(Course course) {
+        Course copy = new Course();
+        copy.setCourseId(course.getCourseId());
+        copy.setCourseName(course.getCourseName());
+        copy.setCourseDesc(course.getCourseDesc());
+        copy.setTeacherId(course.getTeacherId());
+        return copy;
+    }
+}
@@ -0,0 +1,22 @@
+package mthree.com.fullstackschool.dao.memory;
+
+import mthree.com.fullstackschool.dao.EnrollmentGraphDao;
+import mthree.com.fullstackschool.model.EnrollmentGraph;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("memory")
+public class InMemoryEnrollmentGraphDao implements EnrollmentGraphDao {
+
+    private final InMemorySchool school;
+
+    public InMemoryEnrollmentGraphDao(InMemorySchool school) {
+        this.school = school;
+    }
+
+    @Override
+    public EnrollmentGraph loadEnrollmentGraph() {
+        return school.enrollments.toGraph();
+    }
+}
@@ -0,0 +1,38 @@
+package mthree.com.fullstackschool.dao.memory;
+
+import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.Student;
+import mthree.com.fullstackschool.model.Teacher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Tables shared by the in-memory DAOs. Deleting a student or course has to reach the
+// enrollments, and deleting a teacher the courses, so the three DAOs work on one store.
+@Component
+@Profile("memory")
+public class InMemorySchool {
+
+    final Map<Integer, Student> students = new ConcurrentHashMap<>();
+    final Map<Integer, Course> courses = new ConcurrentHashMap<>();
+    final Map<Integer, Teacher> teachers = new ConcurrentHashMap<>();
+    final Enrollments enrollments = new Enrollments();
+
+    // the equivalents of the AUTO_INCREMENT columns
+    final AtomicInteger studentIds = new AtomicInteger();
+    final AtomicInteger courseIds = new AtomicInteger();
+    final AtomicInteger teacherIds = new AtomicInteger();
+
+    public void clear() {
+        enrollments.clear();
+        students.clear();
+        courses.clear();
+        teachers.clear();
+        studentIds.set(0);
+        courseIds.set(0);
+        teacherIds.set(0);
+    }
+}
@@ -0,0 +1,146 @@
+package mthree.com.fullstackschool.dao.memory;
+
+import mthree.com.fullstackschool.dao.StudentDao;
+import mthree.com.fullstackschool.model.Student;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@Profile("memory")
+public class InMemoryStudentDao implements StudentDao {
+
+    private final InMemorySchool school;
+
+    public InMemoryStudentDao(InMemorySchool school) {
+        this.school = school;
+    }
+
+    @Override
+    public Student createNewStudent(Student student) {
+        student.setStudentId(school.studentIds.incrementAndGet());
+        school.students.put(student.getStudentId(), copy(student));
+        return student;
+    }
+
+    @Override
+    public List<Student> createNewStudents(List<Student> students) {
+        for (Student student : students) {
+            createNewStudent(student);
+        }
+        return students;
+    }
+
+    @Override
+    public List<Student> getAllStudents() {
+        List<Student> students = new ArrayList<>(school.students.size());
+        for (Student student : school.students.values()) {
+            students.add(copy(student));
+        }
+        students.sort(Comparator.comparingInt(Student::getStudentId));
+        return students;
+    }
+
+    @Override
+    public Student findStudentById(int id) {
+        Student student = school.students.get(id);
+        if (student == null) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return copy(student);
+    }
+
+    @Override
+    public void updateStudent(Student student) {
+        school.students.computeIfPresent(student.getStudentId(), (id, old) -> copy(student));
+    }
+
+    @Override
+    public void deleteStudent(int id) {
+        school.enrollments.locked(() -> {
+            school.enrollments.removeStudent(id);
+            school.students.remove(id);
+        });
+    }
+
+    @Override
+    public void addStudentToCourse(int studentId, int courseId) {
+        school.enrollments.locked(() -> {
+            checkExists(studentId, courseId);
+            if (!school.enrollments.add(studentId, courseId)) {
+                throw new DuplicateKeyException("Student " + studentId + " already in course " + courseId);
+            }
+        });
+    }
+
+    @Override
+    public void deleteStudentFromCourse(int studentId, int courseId) {
+        school.enrollments.remove(studentId, courseId);
+    }
+
+    @Override
+    public void addStudentsToCourse(int courseId, int[] studentIds) {
+        List<int[]> pairs = new ArrayList<>(studentIds.length);
+        for (int studentId : studentIds) {
+            pairs.add(new int[]{studentId, courseId});
+        }
+        enroll(pairs);
+    }
+
+    @Override
+    public void enroll(Collection<int[]> pairs) {
+        // all or nothing, like the JDBC transaction: check everything first, and undo the pairs
+        // already added if a later one turns out to be a duplicate
+        school.enrollments.locked(() -> {
+            for (int[] pair : pairs) {
+                checkExists(pair[0], pair[1]);
+            }
+            List<int[]> added = new ArrayList<>(pairs.size());
+            for (int[] pair : pairs) {
+                if (!school.enrollments.add(pair[0], pair[1])) {
+                    for (int[] undo : added) {
+                        school.enrollments.remove(undo[0], undo[1]);
+                    }
+                    throw new DuplicateKeyException("Student " + pair[0] + " already in course " + pair[1]);
+                }
+                added.add(pair);
+            }
+        });
+    }
+
+    @Override
+    public List<Student> getStudentsInCourse(int courseId) {
+        List<Student> students = new ArrayList<>();
+        for (int studentId : school.enrollments.studentsIn(courseId)) {
+            Student student = school.students.get(studentId);
+            if (student != null) {
+                students.add(copy(student));
+            }
+        }
+        return students;
+    }
+
+    // stands in for the course_student foreign keys, callers hold the enrollments lock so the
+    // rows cannot be deleted between this check and the add
+    private void checkExists(int studentId, int courseId) {
+        if (!school.students.containsKey(studentId) || !school.courses.containsKey(courseId)) {
+            throw new DataIntegrityViolationException(
+                    "No student " + studentId + " or course " + courseId + " to enroll");
+        }
+    }
+
+    static Student copy(Student student) {
+        Student copy = new Student();
+        copy.setStudentId(student.getStudentId());
+        copy.setStudentFirstName(student.getStudentFirstName());
+        copy.setStudentLastName(student.getStudentLastName());
+        return copy;
+    }
+}
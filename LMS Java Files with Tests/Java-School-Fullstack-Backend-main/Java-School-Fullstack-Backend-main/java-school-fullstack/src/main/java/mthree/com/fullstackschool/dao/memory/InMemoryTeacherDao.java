@@ -0,0 +1,122 @@
+package mthree.com.fullstackschool.dao.memory;
+
+import mthree.com.fullstackschool.dao.TeacherDao;
+import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.Teacher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@Profile("memory")
+public class InMemoryTeacherDao implements TeacherDao {
+
+    private final InMemorySchool school;
+
+    public InMemoryTeacherDao(InMemorySchool school) {
+        this.school = school;
+    }
+
+    @Override
+    public Teacher createNewTeacher(Teacher teacher) {
+        teacher.setTeacherId(school.teacherIds.incrementAndGet());
+        school.teachers.put(teacher.getTeacherId(), copy(teacher));
+        return teacher;
+    }
+
+    @Override
+    public List<Teacher> createNewTeachers(List<Teacher> teachers) {
+        for (Teacher teacher : teachers) {
+            createNewTeacher(teacher);
+        }
+        return teachers;
+    }
+
+    @Override
+    public List<Teacher> getAllTeachers() {
+        List<Teacher> teachers = new ArrayList<>(school.teachers.size());
+        for (Teacher teacher : school.teachers.values()) {
+            teachers.add(copy(teacher));
+        }
+        teachers.sort(Comparator.comparingInt(Teacher::getTeacherId));
+        return teachers;
+    }
+
+    @Override
+    public Teacher findTeacherById(int id) {
+        Teacher teacher = school.teachers.get(id);
+        if (teacher == null) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return copy(teacher);
+    }
+
+    @Override
+    public Teacher findTeacherByCourseId(int courseId) {
+        Course course = school.courses.get(courseId);
+        Teacher teacher = course == null ? null : school.teachers.get(course.getTeacherId());
+        if (teacher == null) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return copy(teacher);
+    }
+
+    @Override
+    public void updateTeacher(Teacher teacher) {
+        school.teachers.computeIfPresent(teacher.getTeacherId(), (id, old) -> copy(teacher));
+    }
+
+    @Override
+    public void deleteTeacher(int id) {
+        // courses keep their teacherId, there is no foreign key to teacher
+        school.teachers.remove(id);
+    }
+
+    @Override
+    public void deleteTeacherWithCourses(int id) {
+        deleteTeachersWithCourses(new int[]{id});
+    }
+
+    @Override
+    public void deleteTeachersWithCourses(int[] ids) {
+        school.enrollments.locked(() -> {
+            for (Course course : school.courses.values()) {
+                for (int id : ids) {
+                    if (course.getTeacherId() == id) {
+                        school.enrollments.removeCourse(course.getCourseId());
+                        school.courses.remove(course.getCourseId());
+                        break;
+                    }
+                }
+            }
+        });
+        for (int id : ids) {
+            school.teachers.remove(id);
+        }
+    }
+
+    @Override
+    public int deleteDepartment(String dept) {
+        List<Integer> ids = new ArrayList<>();
+        for (Teacher teacher : school.teachers.values()) {
+            if (dept.equals(teacher.getDept())) {
+                ids.add(teacher.getTeacherId());
+            }
+        }
+        deleteTeachersWithCourses(ids.stream().mapToInt(Integer::intValue).toArray());
+        return ids.size();
+    }
+
+    static Teacher copy(Teacher teacher) {
+        Teacher copy = new Teacher();
+        copy.setTeacherId(teacher.getTeacherId());
+        copy.setTeacherFName(teacher.getTeacherFName());
+        copy.setTeacherLName(teacher.getTeacherLName());
+        copy.setDept(teacher.getDept());
+        return copy;
+    }
+}
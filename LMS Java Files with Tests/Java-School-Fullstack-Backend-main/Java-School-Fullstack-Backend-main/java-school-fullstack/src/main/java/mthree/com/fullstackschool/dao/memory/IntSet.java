@@ -0,0 +1,102 @@
+package mthree.com.fullstackschool.dao.memory;
+
+import java.util.Arrays;
+
+// Open-addressing hash set of positive ints, 0 marks an empty slot.
+// Not thread safe, Enrollments guards every instance with its lock.
+class IntSet {
+
+    private int[] slots = new int[8];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int value) {
+        int mask = slots.length - 1;
+        for (int i = mix(value) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            if (slots[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean add(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("ids must be positive: " + value);
+        }
+        if ((size + 1) * 4 > slots.length * 3) {
+            resize(slots.length * 2);
+        }
+        int mask = slots.length - 1;
+        int i = mix(value) & mask;
+        while (slots[i] != 0) {
+            if (slots[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = value;
+        size++;
+        return true;
+    }
+
+    boolean remove(int value) {
+        if (value <= 0) {
+            // never stored, and 0 would match the first empty slot
+            return false;
+        }
+        int mask = slots.length - 1;
+        int i = mix(value) & mask;
+        while (slots[i] != value) {
+            if (slots[i] == 0) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        // backward shift: pull later entries of the probe run into the hole so lookups never stop early
+        int hole = i;
+        for (int j = (hole + 1) & mask; slots[j] != 0; j = (j + 1) & mask) {
+            int home = mix(slots[j]) & mask;
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                slots[hole] = slots[j];
+                hole = j;
+            }
+        }
+        slots[hole] = 0;
+        size--;
+        return true;
+    }
+
+    // Sorted copy, so callers see ids in the same order an ORDER BY would give
+    int[] toSortedArray() {
+        int[] values = new int[size];
+        int n = 0;
+        for (int slot : slots) {
+            if (slot != 0) {
+                values[n++] = slot;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private void resize(int capacity) {
+        int[] old = slots;
+        slots = new int[capacity];
+        size = 0;
+        for (int value : old) {
+            if (value != 0) {
+                add(value);
+            }
+        }
+    }
+
+    private static int mix(int value) {
+        // ids are sequential, spread them so neighbours do not share a probe run
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,117 @@
+package mthree.com.fullstackschool.dao.memory;
+
+// Open-addressing hash map from a positive int key to an IntSet, 0 marks an empty slot.
+// Keeps the enrollment indexes free of boxed Integer keys.
+// Not thread safe, Enrollments guards every instance with its lock.
+class IntSetMap {
+
+    interface Visitor {
+        void visit(int key, IntSet values);
+    }
+
+    private int[] keys = new int[16];
+    private IntSet[] values = new IntSet[16];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    IntSet get(int key) {
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    IntSet getOrCreate(int key) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("ids must be positive: " + key);
+        }
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = new IntSet();
+        size++;
+        return values[i];
+    }
+
+    IntSet remove(int key) {
+        if (key <= 0) {
+            // never stored, and 0 would match the first empty slot
+            return null;
+        }
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (keys[i] != key) {
+            if (keys[i] == 0) {
+                return null;
+            }
+            i = (i + 1) & mask;
+        }
+        IntSet removed = values[i];
+        // backward shift, as in IntSet
+        int hole = i;
+        for (int j = (hole + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            int home = mix(keys[j]) & mask;
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+        size--;
+        return removed;
+    }
+
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    void clear() {
+        keys = new int[16];
+        values = new IntSet[16];
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        IntSet[] oldValues = values;
+        keys = new int[capacity];
+        values = new IntSet[capacity];
+        int mask = capacity - 1;
+        for (int k = 0; k < oldKeys.length; k++) {
+            if (oldKeys[k] != 0) {
+                int i = mix(oldKeys[k]) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[k];
+                values[i] = oldValues[k];
+            }
+        }
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,48 @@
+package mthree.com.fullstackschool.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Caps how many requests run at once. A caller that finds it full is turned away immediately
+// rather than parked, so a slow endpoint cannot hold more than its share of threads and connections.
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    public Bulkhead(int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("max-concurrent must be at least 1");
+        }
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public boolean tryEnter() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peak.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getPeak() {
+        return peak.get();
+    }
+}
@@ -0,0 +1,80 @@
+package mthree.com.fullstackschool.limits;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Puts every controller method behind its own EndpointLimiter, named <Controller>.<method>, e.g.
+// CourseController.getAllCourses. Limits come from school.limits.<name>.max-concurrent, .rate and
+// .burst, falling back to the school.limits.default.* values. A refused request gets 429 with a
+// Retry-After header straight away and never reaches the controller.
+public class EndpointLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String LIMITER = EndpointLimitInterceptor.class.getName() + ".LIMITER";
+
+    private final Environment environment;
+    private final int defaultMaxConcurrent;
+    private final double defaultRate;
+    private final ConcurrentMap<String, EndpointLimiter> limiters = new ConcurrentHashMap<>();
+
+    public EndpointLimitInterceptor(Environment environment, int defaultMaxConcurrent, double defaultRate) {
+        this.environment = environment;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.defaultRate = defaultRate;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // an async endpoint comes back through here when its result is ready, it still holds its slot
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        HandlerMethod method = (HandlerMethod) handler;
+        String name = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        EndpointLimiter limiter = limiters.computeIfAbsent(name, this::createLimiter);
+
+        long wait = limiter.tryEnter();
+        if (wait != EndpointLimiter.ADMITTED) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (wait + 999_999_999L) / 1_000_000_000L)));
+            return false;
+        }
+        request.setAttribute(LIMITER, limiter);
+        return true;
+    }
+
+    // not called when an async endpoint hands off its work, only once the response is complete
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object limiter = request.getAttribute(LIMITER);
+        if (limiter != null) {
+            request.removeAttribute(LIMITER);
+            ((EndpointLimiter) limiter).exit();
+        }
+    }
+
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        limiters.forEach((name, limiter) -> result.put(name, limiter.stats()));
+        return result;
+    }
+
+    private EndpointLimiter createLimiter(String name) {
+        String prefix = "school.limits." + name + ".";
+        int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class, defaultMaxConcurrent);
+        double rate = environment.getProperty(prefix + "rate", Double.class, defaultRate);
+        // one second worth of requests unless configured otherwise
+        int burst = environment.getProperty(prefix + "burst", Integer.class, (int) Math.max(1, Math.ceil(rate)));
+        return new EndpointLimiter(maxConcurrent, rate, burst);
+    }
+}
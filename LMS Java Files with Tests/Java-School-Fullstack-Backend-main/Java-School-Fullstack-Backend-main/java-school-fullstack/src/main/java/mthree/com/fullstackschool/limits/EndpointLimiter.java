@@ -0,0 +1,60 @@
+package mthree.com.fullstackschool.limits;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Rate limit and bulkhead for one endpoint, plus the counters served at /limits/stats
+public class EndpointLimiter {
+
+    // returned by tryEnter when the request may run
+    public static final long ADMITTED = 0;
+
+    private final TokenBucket tokenBucket;
+    private final Bulkhead bulkhead;
+    private final double ratePerSecond;
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder bulkheadFull = new LongAdder();
+
+    // a rate of 0 or less turns the rate limit off, the bulkhead always applies
+    public EndpointLimiter(int maxConcurrent, double ratePerSecond, int burst) {
+        this.tokenBucket = ratePerSecond > 0 ? new TokenBucket(ratePerSecond, burst) : null;
+        this.bulkhead = new Bulkhead(maxConcurrent);
+        this.ratePerSecond = Math.max(0, ratePerSecond);
+    }
+
+    // ADMITTED, or the nanos the client should wait before retrying; exit() must follow an admit
+    public long tryEnter() {
+        if (tokenBucket != null) {
+            long wait = tokenBucket.tryAcquire();
+            if (wait > 0) {
+                rateLimited.increment();
+                return wait;
+            }
+        }
+        if (!bulkhead.tryEnter()) {
+            bulkheadFull.increment();
+            // no way to know when a slot frees up, suggest a short pause
+            return 1_000_000_000L;
+        }
+        admitted.increment();
+        return ADMITTED;
+    }
+
+    public void exit() {
+        bulkhead.exit();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("maxConcurrent", bulkhead.getMaxConcurrent());
+        values.put("ratePerSecond", ratePerSecond);
+        values.put("inFlight", bulkhead.getInFlight());
+        values.put("peakInFlight", bulkhead.getPeak());
+        values.put("admitted", admitted.sum());
+        values.put("rateLimited", rateLimited.sum());
+        values.put("bulkheadFull", bulkheadFull.sum());
+        return values;
+    }
+}
@@ -0,0 +1,46 @@
+package mthree.com.fullstackschool.limits;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Token bucket kept as a single AtomicLong (the GCRA form): instead of a token count it stores the
+// time at which the bucket will be full again. Taking a token pushes that time one interval ahead;
+// a request is refused when it would land more than a full burst ahead of now. One CAS per request,
+// no lock and no refill thread.
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(double perSecond, int burst) {
+        this(perSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double perSecond, int burst, LongSupplier clock) {
+        if (perSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate must be positive and burst at least 1");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / perSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.clock = clock;
+        this.fullAt = new AtomicLong(clock.getAsLong());
+    }
+
+    // 0 when a token was taken, otherwise the nanos until the next one is due
+    public long tryAcquire() {
+        while (true) {
+            long now = clock.getAsLong();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package mthree.com.fullstackschool.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Writes one logfmt line per recorded statement to the mthree.com.fullstackschool.QUERY logger:
+//   sql="SELECT ..." op=executeQuery ms=0.412 result=- thread=http-nio-8080-exec-3
+// While sampling, slow statements are always logged at WARN and the rest for a random sample at
+// INFO. At a sample rate of 0 QueryLoggingDataSource does not time statements at all.
+public class QueryLog {
+
+    private static final Logger log = LoggerFactory.getLogger("mthree.com.fullstackschool.QUERY");
+
+    private volatile double sampleRate;
+    private volatile long slowNanos;
+
+    public QueryLog(double sampleRate, long slowMillis) {
+        setSampleRate(sampleRate);
+        setSlowMillis(slowMillis);
+    }
+
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("school.query-log.sample-rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public void setSlowMillis(long slowMillis) {
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+    }
+
+    boolean isSampling() {
+        return sampleRate > 0;
+    }
+
+    void record(String sql, String operation, long nanos, String result) {
+        if (nanos >= slowNanos) {
+            if (log.isWarnEnabled()) {
+                log.warn(format(sql, operation, nanos, result));
+            }
+            return;
+        }
+        double rate = sampleRate;
+        if (rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate) && log.isInfoEnabled()) {
+            log.info(format(sql, operation, nanos, result));
+        }
+    }
+
+    private static String format(String sql, String operation, long nanos, String result) {
+        String quoted = sql == null ? "-" : '"' + sql.replace("\"", "\\\"") + '"';
+        return String.format("sql=%s op=%s ms=%.3f result=%s thread=%s",
+                quoted, operation, nanos / 1e6, result, Thread.currentThread().getName());
+    }
+}
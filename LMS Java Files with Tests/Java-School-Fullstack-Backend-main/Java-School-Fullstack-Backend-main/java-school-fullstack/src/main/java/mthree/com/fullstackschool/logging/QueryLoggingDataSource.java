@@ -0,0 +1,98 @@
+package mthree.com.fullstackschool.logging;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Times every execute* call on the statements its connections create and hands the
+// result to QueryLog. JdbcTemplate and the DAOs are unaware of it. While the sample rate is 0
+// connections come back unwrapped, so the quiet default pays for no proxies or timing.
+public class QueryLoggingDataSource extends DelegatingDataSource {
+
+    private final QueryLog queryLog;
+
+    public QueryLoggingDataSource(DataSource target, QueryLog queryLog) {
+        super(target);
+        this.queryLog = queryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        if (!queryLog.isSampling()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(proxy, connection, method, args);
+                    if (result instanceof CallableStatement) {
+                        return wrap((Statement) result, CallableStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof PreparedStatement) {
+                        return wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof Statement) {
+                        return wrap((Statement) result, Statement.class, null);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrap(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(proxy, statement, method, args);
+            }
+            // plain Statements pass their SQL to execute*, prepared ones were given it up front
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+            long start = System.nanoTime();
+            Object result = invoke(proxy, statement, method, args);
+            queryLog.record(sql, method.getName(), System.nanoTime() - start, describe(result));
+            return result;
+        });
+    }
+
+    private static String describe(Object result) {
+        if (result instanceof Integer || result instanceof Long || result instanceof Boolean) {
+            return result.toString();
+        }
+        if (result instanceof int[]) {
+            return "batch:" + ((int[]) result).length;
+        }
+        if (result instanceof long[]) {
+            return "batch:" + ((long[]) result).length;
+        }
+        return "-";
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        // identity of the proxy itself, so pools and maps can tell connections apart
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
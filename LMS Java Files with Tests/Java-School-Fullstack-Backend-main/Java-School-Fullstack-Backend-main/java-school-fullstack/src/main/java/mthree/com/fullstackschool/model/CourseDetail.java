@@ -0,0 +1,33 @@
+package mthree.com.fullstackschool.model;
+
+import java.util.List;
+
+public class CourseDetail {
+    private Course course;
+    private Teacher teacher;
+    private List<Student> students;
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public void setCourse(Course course) {
+        this.course = course;
+    }
+
+    public Teacher getTeacher() {
+        return teacher;
+    }
+
+    public void setTeacher(Teacher teacher) {
+        this.teacher = teacher;
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<Student> students) {
+        this.students = students;
+    }
+}
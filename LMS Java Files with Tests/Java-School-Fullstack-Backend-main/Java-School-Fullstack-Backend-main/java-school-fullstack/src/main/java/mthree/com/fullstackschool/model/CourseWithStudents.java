@@ -0,0 +1,16 @@
+package mthree.com.fullstackschool.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CourseWithStudents extends Course {
+    private List<Student> students = new ArrayList<>();
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<Student> students) {
+        this.students = students;
+    }
+}
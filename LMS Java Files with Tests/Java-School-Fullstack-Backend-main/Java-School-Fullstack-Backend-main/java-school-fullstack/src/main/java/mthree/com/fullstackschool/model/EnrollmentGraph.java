@@ -0,0 +1,171 @@
+package mthree.com.fullstackschool.model;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Immutable snapshot of course_student as compressed sparse rows in both directions.
+// The students of course c are courseStudents[courseStart[c] .. courseStart[c + 1]), sorted,
+// and likewise for the courses of a student. Ids are never boxed.
+public final class EnrollmentGraph {
+
+    public static final EnrollmentGraph EMPTY = build(new int[0], new int[0], 0);
+
+    private final int[] courseStart;
+    private final int[] courseStudents;
+    private final int[] studentStart;
+    private final int[] studentCourses;
+
+    private EnrollmentGraph(int[] courseStart, int[] courseStudents, int[] studentStart, int[] studentCourses) {
+        this.courseStart = courseStart;
+        this.courseStudents = courseStudents;
+        this.studentStart = studentStart;
+        this.studentCourses = studentCourses;
+    }
+
+    // Builds the graph from the first count (studentId, courseId) pairs in linear time.
+    // Pairs must be distinct, which the course_student primary key guarantees.
+    public static EnrollmentGraph build(int[] studentIds, int[] courseIds, int count) {
+        int maxStudent = 0;
+        int maxCourse = 0;
+        for (int i = 0; i < count; i++) {
+            maxStudent = Math.max(maxStudent, studentIds[i]);
+            maxCourse = Math.max(maxCourse, courseIds[i]);
+        }
+
+        // counting sort by student, rows keep the input order
+        int[] studentStart = offsets(studentIds, count, maxStudent);
+        int[] unsorted = new int[count];
+        int[] next = Arrays.copyOf(studentStart, maxStudent + 1);
+        for (int i = 0; i < count; i++) {
+            unsorted[next[studentIds[i]]++] = courseIds[i];
+        }
+
+        // walking students in id order fills every course row already sorted by student
+        int[] courseStart = offsets(courseIds, count, maxCourse);
+        int[] courseStudents = new int[count];
+        next = Arrays.copyOf(courseStart, maxCourse + 1);
+        for (int student = 0; student <= maxStudent; student++) {
+            for (int i = studentStart[student]; i < studentStart[student + 1]; i++) {
+                courseStudents[next[unsorted[i]]++] = student;
+            }
+        }
+
+        // and walking courses in id order refills the student rows sorted by course
+        int[] studentCourses = unsorted;
+        next = Arrays.copyOf(studentStart, maxStudent + 1);
+        for (int course = 0; course <= maxCourse; course++) {
+            for (int i = courseStart[course]; i < courseStart[course + 1]; i++) {
+                studentCourses[next[courseStudents[i]]++] = course;
+            }
+        }
+        return new EnrollmentGraph(courseStart, courseStudents, studentStart, studentCourses);
+    }
+
+    public int enrollmentCount() {
+        return courseStudents.length;
+    }
+
+    public int studentCount(int courseId) {
+        return rowLength(courseStart, courseId);
+    }
+
+    public int courseCount(int studentId) {
+        return rowLength(studentStart, studentId);
+    }
+
+    public int[] studentsInCourse(int courseId) {
+        return row(courseStart, courseStudents, courseId);
+    }
+
+    public int[] coursesForStudent(int studentId) {
+        return row(studentStart, studentCourses, studentId);
+    }
+
+    // Allocation-free variants of the two lookups above
+    public void forEachStudentInCourse(int courseId, IntConsumer action) {
+        forEach(courseStart, courseStudents, courseId, action);
+    }
+
+    public void forEachCourseForStudent(int studentId, IntConsumer action) {
+        forEach(studentStart, studentCourses, studentId, action);
+    }
+
+    public boolean isEnrolled(int studentId, int courseId) {
+        if (rowLength(studentStart, studentId) == 0) {
+            return false;
+        }
+        return Arrays.binarySearch(studentCourses, studentStart[studentId], studentStart[studentId + 1], courseId) >= 0;
+    }
+
+    public int sharedStudentCount(int courseA, int courseB) {
+        return intersect(courseA, courseB, null);
+    }
+
+    public int[] sharedStudents(int courseA, int courseB) {
+        int[] shared = new int[Math.min(studentCount(courseA), studentCount(courseB))];
+        return Arrays.copyOf(shared, intersect(courseA, courseB, shared));
+    }
+
+    // Merges the two sorted rosters, writing matches to out when it is not null
+    private int intersect(int courseA, int courseB, int[] out) {
+        if (rowLength(courseStart, courseA) == 0 || rowLength(courseStart, courseB) == 0) {
+            return 0;
+        }
+        int a = courseStart[courseA];
+        int aEnd = courseStart[courseA + 1];
+        int b = courseStart[courseB];
+        int bEnd = courseStart[courseB + 1];
+        int n = 0;
+        while (a < aEnd && b < bEnd) {
+            int sa = courseStudents[a];
+            int sb = courseStudents[b];
+            if (sa < sb) {
+                a++;
+            } else if (sa > sb) {
+                b++;
+            } else {
+                if (out != null) {
+                    out[n] = sa;
+                }
+                n++;
+                a++;
+                b++;
+            }
+        }
+        return n;
+    }
+
+    private static int[] offsets(int[] ids, int count, int maxId) {
+        int[] start = new int[maxId + 2];
+        for (int i = 0; i < count; i++) {
+            start[ids[i] + 1]++;
+        }
+        for (int id = 0; id <= maxId; id++) {
+            start[id + 1] += start[id];
+        }
+        return start;
+    }
+
+    private static int rowLength(int[] start, int id) {
+        if (id < 0 || id + 1 >= start.length) {
+            return 0;
+        }
+        return start[id + 1] - start[id];
+    }
+
+    private static int[] row(int[] start, int[] values, int id) {
+        if (rowLength(start, id) == 0) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(values, start[id], start[id + 1]);
+    }
+
+    private static void forEach(int[] start, int[] values, int id, IntConsumer action) {
+        if (rowLength(start, id) == 0) {
+            return;
+        }
+        for (int i = start[id]; i < start[id + 1]; i++) {
+            action.accept(values[i]);
+        }
+    }
+}
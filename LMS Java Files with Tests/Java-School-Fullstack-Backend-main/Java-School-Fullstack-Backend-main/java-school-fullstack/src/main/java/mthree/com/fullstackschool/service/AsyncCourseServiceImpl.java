@@ -0,0 +1,55 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseDetail;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+// Runs the CourseServiceImpl reads on the bounded dbExecutor
+@Service
+public class AsyncCourseServiceImpl implements AsyncCourseServiceInterface {
+
+    private final CourseServiceImpl courseService;
+    private final AsyncStudentServiceImpl asyncStudentService;
+    private final AsyncTeacherServiceImpl asyncTeacherService;
+    private final ExecutorService dbExecutor;
+
+    public AsyncCourseServiceImpl(CourseServiceImpl courseService,
+                                  AsyncStudentServiceImpl asyncStudentService,
+                                  AsyncTeacherServiceImpl asyncTeacherService,
+                                  @Qualifier("dbExecutor") ExecutorService dbExecutor) {
+        this.courseService = courseService;
+        this.asyncStudentService = asyncStudentService;
+        this.asyncTeacherService = asyncTeacherService;
+        this.dbExecutor = dbExecutor;
+    }
+
+    public CompletableFuture<List<Course>> getAllCourses() {
+        return CompletableFuture.supplyAsync(courseService::getAllCourses, dbExecutor);
+    }
+
+    public CompletableFuture<Course> getCourseById(int id) {
+        return CompletableFuture.supplyAsync(() -> courseService.getCourseById(id), dbExecutor);
+    }
+
+    // The course, its teacher and its roster are all looked up by course id, so the three
+    // queries run at once and the page waits only for the slowest of them
+    public CompletableFuture<CourseDetail> getCourseDetail(int id) {
+        CompletableFuture<Course> course = getCourseById(id);
+        CompletableFuture<CourseDetail> detail = course
+                .thenCombine(asyncTeacherService.getTeacherForCourse(id), (c, teacher) -> {
+                    CourseDetail result = new CourseDetail();
+                    result.setCourse(c);
+                    result.setTeacher(teacher);
+                    return result;
+                });
+        return detail.thenCombine(asyncStudentService.getStudentsInCourse(id), (result, students) -> {
+            result.setStudents(students);
+            return result;
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseDetail;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncCourseServiceInterface {
+    CompletableFuture<List<Course>> getAllCourses();
+
+    CompletableFuture<Course> getCourseById(int id);
+
+    CompletableFuture<CourseDetail> getCourseDetail(int id);
+}
@@ -0,0 +1,34 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.model.Student;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+// Runs the StudentServiceImpl reads on the bounded dbExecutor
+@Service
+public class AsyncStudentServiceImpl implements AsyncStudentServiceInterface {
+
+    private final StudentServiceImpl studentService;
+    private final ExecutorService dbExecutor;
+
+    public AsyncStudentServiceImpl(StudentServiceImpl studentService, @Qualifier("dbExecutor") ExecutorService dbExecutor) {
+        this.studentService = studentService;
+        this.dbExecutor = dbExecutor;
+    }
+
+    public CompletableFuture<List<Student>> getAllStudents() {
+        return CompletableFuture.supplyAsync(studentService::getAllStudents, dbExecutor);
+    }
+
+    public CompletableFuture<Student> getStudentById(int id) {
+        return CompletableFuture.supplyAsync(() -> studentService.getStudentById(id), dbExecutor);
+    }
+
+    public CompletableFuture<List<Student>> getStudentsInCourse(int courseId) {
+        return CompletableFuture.supplyAsync(() -> studentService.getStudentsInCourse(courseId), dbExecutor);
+    }
+}
@@ -0,0 +1,14 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.model.Student;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncStudentServiceInterface {
+    CompletableFuture<List<Student>> getAllStudents();
+
+    CompletableFuture<Student> getStudentById(int id);
+
+    CompletableFuture<List<Student>> getStudentsInCourse(int courseId);
+}
@@ -0,0 +1,34 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.model.Teacher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+// Runs the TeacherServiceImpl reads on the bounded dbExecutor
+@Service
+public class AsyncTeacherServiceImpl implements AsyncTeacherServiceInterface {
+
+    private final TeacherServiceImpl teacherService;
+    private final ExecutorService dbExecutor;
+
+    public AsyncTeacherServiceImpl(TeacherServiceImpl teacherService, @Qualifier("dbExecutor") ExecutorService dbExecutor) {
+        this.teacherService = teacherService;
+        this.dbExecutor = dbExecutor;
+    }
+
+    public CompletableFuture<List<Teacher>> getAllTeachers() {
+        return CompletableFuture.supplyAsync(teacherService::getAllTeachers, dbExecutor);
+    }
+
+    public CompletableFuture<Teacher> getTeacherById(int id) {
+        return CompletableFuture.supplyAsync(() -> teacherService.getTeacherById(id), dbExecutor);
+    }
+
+    public CompletableFuture<Teacher> getTeacherForCourse(int courseId) {
+        return CompletableFuture.supplyAsync(() -> teacherService.getTeacherForCourse(courseId), dbExecutor);
+    }
+}
@@ -0,0 +1,14 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.model.Teacher;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncTeacherServiceInterface {
+    CompletableFuture<List<Teacher>> getAllTeachers();
+
+    CompletableFuture<Teacher> getTeacherById(int id);
+
+    CompletableFuture<Teacher> getTeacherForCourse(int courseId);
+}
@@ -1,33 +1,57 @@
 package mthree.com.fullstackschool.service;
 
+import mthree.com.fullstackschool.config.CacheConfig;
 import mthree.com.fullstackschool.dao.CourseDao;
 import mthree.com.fullstackschool.model.Course;
-import org.springframework.beans.factory.annotation.Autowired;
+import mthree.com.fullstackschool.model.CourseWithStudents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class CourseServiceImpl implements CourseServiceInterface {
 
+    private static final Logger log = LoggerFactory.getLogger(CourseServiceImpl.class);
+
     //YOUR CODE STARTS HERE
 
+    private final CourseDao courseDao;
+    private final ApplicationEventPublisher events;
 
+    public CourseServiceImpl(CourseDao courseDao, ApplicationEventPublisher events) {
+        this.courseDao = courseDao;
+        this.events = events;
+    }
 
     //YOUR CODE ENDS HERE
 
     public List<Course> getAllCourses() {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return courseDao.getAllCourses();
 
         //YOUR CODE ENDS HERE
     }
 
+    // not-found placeholders have id 0 and are not cached, the id may be created later
+    @Cacheable(cacheNames = CacheConfig.COURSES, key = "#id", unless = "#result.courseId == 0")
     public Course getCourseById(int id) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        try {
+            return courseDao.findCourseById(id);
+        } catch (DataAccessException ex) {
+            Course course = new Course();
+            course.setCourseName("Course Not Found");
+            course.setCourseDesc("Course Not Found");
+            return course;
+        }
 
         //YOUR CODE ENDS HERE
     }
@@ -35,24 +59,86 @@ public class CourseServiceImpl implements CourseServiceInterface {
     public Course addNewCourse(Course course) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        if (isBlank(course.getCourseName()) || isBlank(course.getCourseDesc())) {
+            course.setCourseName("Name blank, course NOT added");
+            course.setCourseDesc("Description blank, course NOT added");
+            return course;
+        }
+        return courseDao.createNewCourse(course);
 
         //YOUR CODE ENDS HERE
     }
 
+    // blank entries are flagged the same way addNewCourse flags them, the rest go in one batch
+    @Override
+    public List<Course> addNewCourses(List<Course> courses) {
+        List<Course> valid = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            if (isBlank(course.getCourseName()) || isBlank(course.getCourseDesc())) {
+                course.setCourseName("Name blank, course NOT added");
+                course.setCourseDesc("Description blank, course NOT added");
+            } else {
+                valid.add(course);
+            }
+        }
+        courseDao.createNewCourses(valid);
+        log.info("{} courses added", valid.size());
+        return courses;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#id")
     public Course updateCourseData(int id, Course course) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        if (id != course.getCourseId()) {
+            course.setCourseName("IDs do not match, course not updated");
+            course.setCourseDesc("IDs do not match, course not updated");
+            return course;
+        }
+        courseDao.updateCourse(course);
+        return course;
 
         //YOUR CODE ENDS HERE
     }
 
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#id")
     public void deleteCourseById(int id) {
         //YOUR CODE STARTS HERE
 
-
+        courseDao.deleteAllStudentsFromCourse(id);
+        courseDao.deleteCourse(id);
+        events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+        log.info("Course ID: {} deleted", id);
 
         //YOUR CODE ENDS HERE
     }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)
+    public void deleteCoursesByIds(int[] ids) {
+        courseDao.deleteCourses(ids);
+        events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+        log.info("{} courses deleted", ids.length);
+    }
+
+    @Override
+    public CourseWithStudents getCourseWithStudents(int id) {
+        try {
+            return courseDao.findCourseWithStudents(id);
+        } catch (DataAccessException ex) {
+            CourseWithStudents course = new CourseWithStudents();
+            course.setCourseName("Course Not Found");
+            course.setCourseDesc("Course Not Found");
+            return course;
+        }
+    }
+
+    @Override
+    public List<CourseWithStudents> getAllCoursesWithStudents() {
+        return courseDao.getAllCoursesWithStudents();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
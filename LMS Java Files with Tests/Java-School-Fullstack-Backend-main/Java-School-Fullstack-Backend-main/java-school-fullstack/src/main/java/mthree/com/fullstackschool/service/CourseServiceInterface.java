@@ -1,6 +1,7 @@
 package mthree.com.fullstackschool.service;
 
 import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseWithStudents;
 
 import java.util.List;
 
@@ -11,9 +12,15 @@ public interface CourseServiceInterface {
 
     Course addNewCourse(Course course);
 
+    List<Course> addNewCourses(List<Course> courses);
+
     Course updateCourseData(int id, Course course);
 
     void deleteCourseById(int id);
 
+    void deleteCoursesByIds(int[] ids);
+
+    CourseWithStudents getCourseWithStudents(int id);
 
+    List<CourseWithStudents> getAllCoursesWithStudents();
 }
@@ -0,0 +1,80 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.dao.EnrollmentGraphDao;
+import mthree.com.fullstackschool.model.EnrollmentGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Serves enrollment lookups from an EnrollmentGraph snapshot, loaded at startup. Every
+// enrollment write publishes an EnrollmentsChangedEvent, which only counts the change. The next
+// lookup sees the snapshot was built before that change and rebuilds it first, so lookups never
+// disagree with /course/{id}/students. Lookups on a current snapshot never block.
+@Service
+public class EnrollmentGraphService {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentGraphService.class);
+
+    private final EnrollmentGraphDao enrollmentGraphDao;
+
+    private final AtomicLong changes = new AtomicLong();
+
+    private volatile EnrollmentGraph graph = EnrollmentGraph.EMPTY;
+    // value of changes the current graph was loaded after, -1 until the first load
+    private volatile long builtAfter = -1;
+
+    public EnrollmentGraphService(EnrollmentGraphDao enrollmentGraphDao) {
+        this.enrollmentGraphDao = enrollmentGraphDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Published after the write has committed, so any load that starts later sees it
+    @EventListener(EnrollmentsChangedEvent.class)
+    public void onEnrollmentsChanged() {
+        changes.incrementAndGet();
+    }
+
+    public synchronized EnrollmentGraph rebuild() {
+        // read before loading: a write that lands during the load leaves the result stale again
+        long seen = changes.get();
+        long start = System.nanoTime();
+        EnrollmentGraph rebuilt = enrollmentGraphDao.loadEnrollmentGraph();
+        graph = rebuilt;
+        builtAfter = seen;
+        log.info("Enrollment graph rebuilt: {} enrollments in {} ms",
+                rebuilt.enrollmentCount(), (System.nanoTime() - start) / 1_000_000);
+        return rebuilt;
+    }
+
+    public EnrollmentGraph getGraph() {
+        if (builtAfter != changes.get()) {
+            synchronized (this) {
+                // another reader may have rebuilt it while this one waited
+                if (builtAfter != changes.get()) {
+                    return rebuild();
+                }
+            }
+        }
+        return graph;
+    }
+
+    public int[] getStudentsInCourse(int courseId) {
+        return getGraph().studentsInCourse(courseId);
+    }
+
+    public int[] getCoursesForStudent(int studentId) {
+        return getGraph().coursesForStudent(studentId);
+    }
+
+    public int[] getSharedStudents(int courseA, int courseB) {
+        return getGraph().sharedStudents(courseA, courseB);
+    }
+}
@@ -0,0 +1,11 @@
+package mthree.com.fullstackschool.service;
+
+// Published by the student, course and teacher services after a write that adds or removes
+// course_student rows, so EnrollmentGraphService knows its snapshot is out of date.
+public final class EnrollmentsChangedEvent {
+
+    public static final EnrollmentsChangedEvent INSTANCE = new EnrollmentsChangedEvent();
+
+    private EnrollmentsChangedEvent() {
+    }
+}
@@ -3,23 +3,39 @@ package mthree.com.fullstackschool.service;
 import mthree.com.fullstackschool.dao.StudentDao;
 import mthree.com.fullstackschool.model.Course;
 import mthree.com.fullstackschool.model.Student;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service
 public class StudentServiceImpl implements StudentServiceInterface {
 
+    private static final Logger log = LoggerFactory.getLogger(StudentServiceImpl.class);
+
     //YOUR CODE STARTS HERE
 
+    private final StudentDao studentDao;
+    private final CourseServiceImpl courseService;
+    private final ApplicationEventPublisher events;
+
+    public StudentServiceImpl(StudentDao studentDao, CourseServiceImpl courseService,
+                              ApplicationEventPublisher events) {
+        this.studentDao = studentDao;
+        this.courseService = courseService;
+        this.events = events;
+    }
 
     //YOUR CODE ENDS HERE
 
     public List<Student> getAllStudents() {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return studentDao.getAllStudents();
 
         //YOUR CODE ENDS HERE
     }
@@ -27,7 +43,14 @@ public class StudentServiceImpl implements StudentServiceInterface {
     public Student getStudentById(int id) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        try {
+            return studentDao.findStudentById(id);
+        } catch (DataAccessException ex) {
+            Student student = new Student();
+            student.setStudentFirstName("Student Not Found");
+            student.setStudentLastName("Student Not Found");
+            return student;
+        }
 
         //YOUR CODE ENDS HERE
     }
@@ -35,15 +58,43 @@ public class StudentServiceImpl implements StudentServiceInterface {
     public Student addNewStudent(Student student) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        if (isBlank(student.getStudentFirstName()) || isBlank(student.getStudentLastName())) {
+            student.setStudentFirstName("First Name blank, student NOT added");
+            student.setStudentLastName("Last Name blank, student NOT added");
+            return student;
+        }
+        return studentDao.createNewStudent(student);
 
         //YOUR CODE ENDS HERE
     }
 
+    // blank entries are flagged the same way addNewStudent flags them, the rest go in one batch
+    @Override
+    public List<Student> addNewStudents(List<Student> students) {
+        List<Student> valid = new ArrayList<>(students.size());
+        for (Student student : students) {
+            if (isBlank(student.getStudentFirstName()) || isBlank(student.getStudentLastName())) {
+                student.setStudentFirstName("First Name blank, student NOT added");
+                student.setStudentLastName("Last Name blank, student NOT added");
+            } else {
+                valid.add(student);
+            }
+        }
+        studentDao.createNewStudents(valid);
+        log.info("{} students added", valid.size());
+        return students;
+    }
+
     public Student updateStudentData(int id, Student student) {
         //YOUR CODE STARTS HERE
 
-        return null;
+        if (id != student.getStudentId()) {
+            student.setStudentFirstName("IDs do not match, student not updated");
+            student.setStudentLastName("IDs do not match, student not updated");
+            return student;
+        }
+        studentDao.updateStudent(student);
+        return student;
 
         //YOUR CODE ENDS HERE
     }
@@ -51,7 +102,8 @@ public class StudentServiceImpl implements StudentServiceInterface {
     public void deleteStudentById(int id) {
         //YOUR CODE STARTS HERE
 
-
+        studentDao.deleteStudent(id);
+        events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
 
         //YOUR CODE ENDS HERE
     }
@@ -59,7 +111,17 @@ public class StudentServiceImpl implements StudentServiceInterface {
     public void deleteStudentFromCourse(int studentId, int courseId) {
         //YOUR CODE STARTS HERE
 
-
+        Student student = getStudentById(studentId);
+        Course course = courseService.getCourseById(courseId);
+        if ("Student Not Found".equals(student.getStudentFirstName())) {
+            log.info("Student {} not found", studentId);
+        } else if ("Course Not Found".equals(course.getCourseName())) {
+            log.info("Course {} not found", courseId);
+        } else {
+            studentDao.deleteStudentFromCourse(studentId, courseId);
+            events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+            log.info("Student: {} deleted from course: {}", studentId, courseId);
+        }
 
         //YOUR CODE ENDS HERE
     }
@@ -67,7 +129,45 @@ public class StudentServiceImpl implements StudentServiceInterface {
     public void addStudentToCourse(int studentId, int courseId) {
         //YOUR CODE STARTS HERE
 
+        Student student = getStudentById(studentId);
+        Course course = courseService.getCourseById(courseId);
+        if ("Student Not Found".equals(student.getStudentFirstName())) {
+            log.info("Student {} not found", studentId);
+        } else if ("Course Not Found".equals(course.getCourseName())) {
+            log.info("Course {} not found", courseId);
+        } else {
+            try {
+                studentDao.addStudentToCourse(studentId, courseId);
+                events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+                log.info("Student: {} added to course: {}", studentId, courseId);
+            } catch (DataAccessException ex) {
+                log.info("Student: {} already enrolled in course: {}", studentId, courseId);
+            }
+        }
 
         //YOUR CODE ENDS HERE
     }
+
+    @Override
+    public void addStudentsToCourse(int courseId, int[] studentIds) {
+        studentDao.addStudentsToCourse(courseId, studentIds);
+        events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+        log.info("{} students added to course: {}", studentIds.length, courseId);
+    }
+
+    @Override
+    public void enroll(Collection<int[]> pairs) {
+        studentDao.enroll(pairs);
+        events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+        log.info("{} enrollments added", pairs.size());
+    }
+
+    @Override
+    public List<Student> getStudentsInCourse(int courseId) {
+        return studentDao.getStudentsInCourse(courseId);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
@@ -2,6 +2,7 @@ package mthree.com.fullstackschool.service;
 
 import mthree.com.fullstackschool.model.Student;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface StudentServiceInterface {
@@ -11,6 +12,8 @@ public interface StudentServiceInterface {
 
     Student addNewStudent(Student student);
 
+    List<Student> addNewStudents(List<Student> students);
+
     Student updateStudentData(int id, Student student);
 
     void deleteStudentById(int id);
@@ -19,4 +22,10 @@ public interface StudentServiceInterface {
 
     void addStudentToCourse(int studentId, int courseId);
 
+    void addStudentsToCourse(int courseId, int[] studentIds);
+
+    void enroll(Collection<int[]> pairs);
+
+    List<Student> getStudentsInCourse(int courseId);
+
 }
@@ -1,33 +1,57 @@
 package mthree.com.fullstackschool.service;
 
+import mthree.com.fullstackschool.config.CacheConfig;
 import mthree.com.fullstackschool.dao.TeacherDao;
 import mthree.com.fullstackschool.model.Teacher;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class TeacherServiceImpl implements TeacherServiceInterface {
 
+    private static final Logger log = LoggerFactory.getLogger(TeacherServiceImpl.class);
+
     //YOUR CODE STARTS HERE
 
+    private final TeacherDao teacherDao;
+    private final ApplicationEventPublisher events;
+
+    public TeacherServiceImpl(TeacherDao teacherDao, ApplicationEventPublisher events) {
+        this.teacherDao = teacherDao;
+        this.events = events;
+    }
 
     //YOUR CODE ENDS HERE
 
     public List<Teacher> getAllTeachers() {
         //YOUR CODE STARTS HERE
 
-        return null;
+        return teacherDao.getAllTeachers();
 
         //YOUR CODE ENDS HERE
     }
 
+    // not-found placeholders have id 0 and are not cached, the id may be created later
+    @Cacheable(cacheNames = CacheConfig.TEACHERS, key = "#id", unless = "#result.teacherId == 0")
     public Teacher getTeacherById(int id) {
         //YOUR CODE STARTS HERE
 
-
-            return null;
+        try {
+            return teacherDao.findTeacherById(id);
+        } catch (DataAccessException ex) {
+            Teacher teacher = new Teacher();
+            teacher.setTeacherFName("Teacher Not Found");
+            teacher.setTeacherLName("Teacher Not Found");
+            return teacher;
+        }
 
         //YOUR CODE ENDS HERE
     }
@@ -35,26 +59,97 @@ public class TeacherServiceImpl implements TeacherServiceInterface {
     public Teacher addNewTeacher(Teacher teacher) {
         //YOUR CODE STARTS HERE
 
-
-        return null;
+        if (isBlank(teacher.getTeacherFName()) || isBlank(teacher.getTeacherLName())) {
+            teacher.setTeacherFName("First Name blank, teacher NOT added");
+            teacher.setTeacherLName("Last Name blank, teacher NOT added");
+            return teacher;
+        }
+        return teacherDao.createNewTeacher(teacher);
 
         //YOUR CODE ENDS HERE
     }
 
+    // blank entries are flagged the same way addNewTeacher flags them, the rest go in one batch
+    @Override
+    public List<Teacher> addNewTeachers(List<Teacher> teachers) {
+        List<Teacher> valid = new ArrayList<>(teachers.size());
+        for (Teacher teacher : teachers) {
+            if (isBlank(teacher.getTeacherFName()) || isBlank(teacher.getTeacherLName())) {
+                teacher.setTeacherFName("First Name blank, teacher NOT added");
+                teacher.setTeacherLName("Last Name blank, teacher NOT added");
+            } else {
+                valid.add(teacher);
+            }
+        }
+        teacherDao.createNewTeachers(valid);
+        log.info("{} teachers added", valid.size());
+        return teachers;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.TEACHERS, key = "#id")
     public Teacher updateTeacherData(int id, Teacher teacher) {
         //YOUR CODE STARTS HERE
 
-
-        return null;
+        if (id != teacher.getTeacherId()) {
+            teacher.setTeacherFName("IDs do not match, teacher not updated");
+            teacher.setTeacherLName("IDs do not match, teacher not updated");
+            return teacher;
+        }
+        teacherDao.updateTeacher(teacher);
+        return teacher;
 
         //YOUR CODE ENDS HERE
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TEACHERS, key = "#id")
     public void deleteTeacherById(int id) {
         //YOUR CODE STARTS HERE
 
-
+        teacherDao.deleteTeacher(id);
 
         //YOUR CODE ENDS HERE
     }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)})
+    public void deleteTeacherWithCourses(int id) {
+        teacherDao.deleteTeacherWithCourses(id);
+        events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+        log.info("Teacher ID: {} and their courses deleted", id);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.TEACHERS, CacheConfig.COURSES}, allEntries = true)
+    public void deleteTeachersWithCourses(int[] ids) {
+        teacherDao.deleteTeachersWithCourses(ids);
+        events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+        log.info("{} teachers and their courses deleted", ids.length);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.TEACHERS, CacheConfig.COURSES}, allEntries = true)
+    public int deleteDepartment(String dept) {
+        int deleted = teacherDao.deleteDepartment(dept);
+        events.publishEvent(EnrollmentsChangedEvent.INSTANCE);
+        log.info("{} teachers and their courses deleted from {}", deleted, dept);
+        return deleted;
+    }
+
+    @Override
+    public Teacher getTeacherForCourse(int courseId) {
+        try {
+            return teacherDao.findTeacherByCourseId(courseId);
+        } catch (DataAccessException ex) {
+            Teacher teacher = new Teacher();
+            teacher.setTeacherFName("Teacher Not Found");
+            teacher.setTeacherLName("Teacher Not Found");
+            return teacher;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
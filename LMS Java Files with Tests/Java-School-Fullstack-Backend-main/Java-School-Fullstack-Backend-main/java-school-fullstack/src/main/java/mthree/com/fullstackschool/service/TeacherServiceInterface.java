@@ -9,9 +9,19 @@ public interface TeacherServiceInterface {
 
     Teacher getTeacherById(int id);
 
+    Teacher getTeacherForCourse(int courseId);
+
     Teacher addNewTeacher(Teacher teacher);
 
+    List<Teacher> addNewTeachers(List<Teacher> teachers);
+
     Teacher updateTeacherData(int id, Teacher teacher);
 
     void deleteTeacherById(int id);
+
+    void deleteTeacherWithCourses(int id);
+
+    void deleteTeachersWithCourses(int[] ids);
+
+    int deleteDepartment(String dept);
 }
@@ -3,6 +3,10 @@
 -- create database school;
 -- use school;
 
+-- course_student references student and course, so it has to go first
+
+DROP TABLE IF EXISTS course_student;
+
 -- Table structure for student
 
 DROP TABLE IF EXISTS student;
@@ -33,10 +37,21 @@ CREATE TABLE course (
   teacherId int DEFAULT NULL
 );
 
+-- No foreign key to teacher: the seed data assigns EN250 to teacher 11, which does not exist
+CREATE INDEX idx_course_teacher ON course (teacherId);
+
 -- Table structure for course_student
 
-DROP TABLE IF EXISTS course_student;
 CREATE TABLE course_student (
-  student_id int,
-  course_id int
+  student_id int NOT NULL,
+  course_id int NOT NULL,
+  PRIMARY KEY (student_id, course_id)
 );
+
+-- Reverse lookup for rosters and deleteAllStudentsFromCourse, also backs the course foreign key
+CREATE INDEX idx_course_student_course ON course_student (course_id, student_id);
+
+ALTER TABLE course_student ADD CONSTRAINT fk_course_student_student
+  FOREIGN KEY (student_id) REFERENCES student (sid);
+ALTER TABLE course_student ADD CONSTRAINT fk_course_student_course
+  FOREIGN KEY (course_id) REFERENCES course (cid);
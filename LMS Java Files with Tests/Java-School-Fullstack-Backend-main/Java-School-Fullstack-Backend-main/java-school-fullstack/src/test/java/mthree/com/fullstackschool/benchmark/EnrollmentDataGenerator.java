@@ -0,0 +1,69 @@
+package mthree.com.fullstackschool.benchmark;
+
+import mthree.com.fullstackschool.dao.StudentDaoImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Bulk loads students, courses and enrollments for the benchmarks
+public class EnrollmentDataGenerator {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private int firstStudentId;
+    private int firstCourseId;
+
+    public EnrollmentDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Adds the given number of students and courses, then enrolls every new student
+    // in coursesPerStudent distinct new courses. Generated ids are consecutive.
+    public void generate(int students, int courses, int coursesPerStudent) {
+        if (coursesPerStudent > courses) {
+            throw new IllegalArgumentException("coursesPerStudent cannot exceed courses");
+        }
+        firstStudentId = nextId("student", "sid");
+        firstCourseId = nextId("course", "cid");
+
+        List<Object[]> studentRows = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            studentRows.add(new Object[]{"First" + i, "Last" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO student(fName, lName) VALUES (?, ?)", studentRows);
+
+        List<Object[]> courseRows = new ArrayList<>(courses);
+        for (int i = 0; i < courses; i++) {
+            courseRows.add(new Object[]{"GEN" + i, "Generated course " + i, i % 10 + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO course(courseCode, courseDesc, teacherId) VALUES (?, ?, ?)", courseRows);
+
+        // stride through the courses so rosters end up spread evenly
+        int stride = Math.max(1, courses / coursesPerStudent);
+        List<int[]> pairs = new ArrayList<>(students * coursesPerStudent);
+        for (int s = 0; s < students; s++) {
+            for (int k = 0; k < coursesPerStudent; k++) {
+                int course = (s + k * stride) % courses;
+                pairs.add(new int[]{firstStudentId + s, firstCourseId + course});
+            }
+        }
+        StudentDaoImpl studentDao = new StudentDaoImpl(jdbcTemplate);
+        studentDao.setBatchSize(BATCH_SIZE);
+        studentDao.enroll(pairs);
+    }
+
+    public int getFirstStudentId() {
+        return firstStudentId;
+    }
+
+    public int getFirstCourseId() {
+        return firstCourseId;
+    }
+
+    private int nextId(String table, String column) {
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Integer.class);
+        return max == null ? 1 : max + 1;
+    }
+}
@@ -0,0 +1,82 @@
+package mthree.com.fullstackschool.benchmark;
+
+import mthree.com.fullstackschool.model.EnrollmentGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+public class EnrollmentGraphBenchmarkTests {
+
+    private static final int STUDENTS = 50_000;
+    private static final int COURSES = 2_000;
+    private static final int COURSES_PER_STUDENT = 20;
+    private static final int ROUNDS = 20_000_000;
+
+    private final EnrollmentGraph graph;
+
+    public EnrollmentGraphBenchmarkTests() {
+        // 1M distinct pairs in random order, the way a table scan may return them
+        int count = STUDENTS * COURSES_PER_STUDENT;
+        int[] studentIds = new int[count];
+        int[] courseIds = new int[count];
+        int stride = COURSES / COURSES_PER_STUDENT;
+        for (int s = 0; s < STUDENTS; s++) {
+            for (int k = 0; k < COURSES_PER_STUDENT; k++) {
+                studentIds[s * COURSES_PER_STUDENT + k] = s + 1;
+                courseIds[s * COURSES_PER_STUDENT + k] = (s + k * stride) % COURSES + 1;
+            }
+        }
+        Random random = new Random(42);
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = studentIds[i];
+            studentIds[i] = studentIds[j];
+            studentIds[j] = t;
+            t = courseIds[i];
+            courseIds[i] = courseIds[j];
+            courseIds[j] = t;
+        }
+        long start = System.nanoTime();
+        graph = EnrollmentGraph.build(studentIds, courseIds, count);
+        System.out.printf("built %,d enrollments in %,d ms%n", count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Test
+    @DisplayName("Roster size, course count and membership lookups")
+    public void lookupBenchmark() {
+        for (int round = 0; round < 3; round++) {
+            long checksum = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                checksum += graph.studentCount(i % COURSES + 1);
+                checksum += graph.courseCount(i % STUDENTS + 1);
+                if (graph.isEnrolled(i % STUDENTS + 1, i % COURSES + 1)) {
+                    checksum++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("lookups: %,.0f ops/s%n", 3 * ROUNDS / seconds);
+            assertTrue(checksum > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Shared students between courses")
+    public void sharedStudentsBenchmark() {
+        int rounds = 200_000;
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            checksum += graph.sharedStudentCount(i % COURSES + 1, (i * 7) % COURSES + 1);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("shared students: %,.2f us/op%n", seconds * 1e6 / rounds);
+        assertTrue(checksum > 0);
+    }
+}
@@ -0,0 +1,123 @@
+package mthree.com.fullstackschool.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Compares the indexed course_student/course tables against unindexed copies at 1M enrollments.
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:enrollmentbench")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EnrollmentIndexBenchmarkTests {
+
+    private static final int STUDENTS = 50_000;
+    private static final int COURSES = 2_000;
+    private static final int COURSES_PER_STUDENT = 20;
+
+    private static final int INDEXED_ROUNDS = 5_000;
+    private static final int SCAN_ROUNDS = 20;
+
+    private JdbcTemplate jdbcTemplate;
+    private int firstStudent;
+    private int firstCourse;
+
+    @Autowired
+    public void EnrollmentIndexBenchmarkTests(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeAll
+    public void generateData() {
+        long start = System.nanoTime();
+        EnrollmentDataGenerator generator = new EnrollmentDataGenerator(jdbcTemplate);
+        generator.generate(STUDENTS, COURSES, COURSES_PER_STUDENT);
+        firstStudent = generator.getFirstStudentId();
+        firstCourse = generator.getFirstCourseId();
+        System.out.printf("generated %,d enrollments in %,d ms%n",
+                STUDENTS * COURSES_PER_STUDENT, (System.nanoTime() - start) / 1_000_000);
+
+        // same rows, no keys or indexes: what the old schema.sql produced
+        jdbcTemplate.execute("CREATE TABLE course_student_heap AS SELECT student_id, course_id FROM course_student");
+        jdbcTemplate.execute("CREATE TABLE course_heap AS SELECT cid, courseCode, courseDesc, teacherId FROM course");
+    }
+
+    @AfterAll
+    public void dropCopies() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS course_student_heap");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS course_heap");
+    }
+
+    @Test
+    @DisplayName("Roster size by course")
+    public void rosterCountBenchmark() {
+        compare("roster count",
+                "SELECT COUNT(*) FROM %s WHERE course_id = ?", "course_student", "course_student_heap",
+                i -> firstCourse + i % COURSES);
+    }
+
+    @Test
+    @DisplayName("Courses of a student")
+    public void studentCoursesBenchmark() {
+        compare("student courses",
+                "SELECT COUNT(course_id) FROM %s WHERE student_id = ?", "course_student", "course_student_heap",
+                i -> firstStudent + i % STUDENTS);
+    }
+
+    @Test
+    @DisplayName("Roster join")
+    public void rosterJoinBenchmark() {
+        compare("roster join",
+                "SELECT COUNT(s.lName) FROM student s JOIN %s cs ON cs.student_id = s.sid WHERE cs.course_id = ?",
+                "course_student", "course_student_heap",
+                i -> firstCourse + i % COURSES);
+    }
+
+    @Test
+    @DisplayName("Courses by teacher")
+    public void teacherCoursesBenchmark() {
+        compare("teacher courses",
+                "SELECT COUNT(cid) FROM %s WHERE teacherId = ?", "course", "course_heap",
+                i -> i % 10 + 1);
+    }
+
+    private void compare(String name, String sql, String indexed, String heap, IntUnaryOperator param) {
+        double indexedMicros = time(String.format(sql, indexed), INDEXED_ROUNDS, param);
+        double scanMicros = time(String.format(sql, heap), SCAN_ROUNDS, param);
+        System.out.printf("%s: indexed %,.1f us/query, unindexed %,.1f us/query, %,.0fx faster%n",
+                name, indexedMicros, scanMicros, scanMicros / indexedMicros);
+        assertTrue(indexedMicros < scanMicros);
+    }
+
+    private double time(String sql, int rounds, IntUnaryOperator param) {
+        // warm up with the same number of rounds so both sides get compiled
+        long checksum = 0;
+        for (int i = 0; i < rounds; i++) {
+            checksum += jdbcTemplate.queryForObject(sql, Long.class, param.applyAsInt(i));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            checksum += jdbcTemplate.queryForObject(sql, Long.class, param.applyAsInt(i));
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / rounds;
+        assertTrue(checksum > 0);
+        return micros;
+    }
+}
@@ -0,0 +1,84 @@
+package mthree.com.fullstackschool.benchmark;
+
+import mthree.com.fullstackschool.config.QueryLogConfig;
+import mthree.com.fullstackschool.dao.StudentDao;
+import mthree.com.fullstackschool.dao.StudentDaoImpl;
+import mthree.com.fullstackschool.logging.QueryLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Throughput of findStudentById under the quiet default, a 1% sampled query log,
+// a full query log and the old DEBUG Spring JDBC logging.
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryLogConfig.class)
+public class QueryLogBenchmarkTests {
+
+    private static final int WARMUP = 20_000;
+    private static final int ROUNDS = 100_000;
+
+    private StudentDao studentDao;
+
+    @Autowired
+    private QueryLog queryLog;
+
+    @Autowired
+    public void QueryLogBenchmarkTests(JdbcTemplate jdbcTemplate) {
+        studentDao = new StudentDaoImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    public void quiet() {
+        queryLog.setSampleRate(0);
+        LoggingSystem.get(getClass().getClassLoader()).setLogLevel("org.springframework.jdbc", LogLevel.INFO);
+    }
+
+    @Test
+    @DisplayName("Query logging overhead")
+    public void queryLogBenchmark() {
+        LoggingSystem loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+
+        double quiet = run("quiet");
+
+        queryLog.setSampleRate(0.01);
+        double sampled = run("sampled 1%");
+
+        queryLog.setSampleRate(1.0);
+        double full = run("query log 100%");
+
+        queryLog.setSampleRate(0);
+        loggingSystem.setLogLevel("org.springframework.jdbc", LogLevel.DEBUG);
+        double debug = run("spring jdbc DEBUG");
+        loggingSystem.setLogLevel("org.springframework.jdbc", LogLevel.INFO);
+
+        System.out.printf("quiet %,.0f ops/s, sampled %,.0f ops/s, full %,.0f ops/s, DEBUG %,.0f ops/s%n",
+                quiet, sampled, full, debug);
+        assertTrue(quiet > debug);
+    }
+
+    private double run(String name) {
+        for (int i = 0; i < WARMUP; i++) {
+            studentDao.findStudentById(i % 8 + 1);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertNotNull(studentDao.findStudentById(i % 8 + 1));
+        }
+        double opsPerSecond = ROUNDS / ((System.nanoTime() - start) / 1e9);
+        System.out.printf("%s: %,.0f ops/s%n", name, opsPerSecond);
+        return opsPerSecond;
+    }
+}
@@ -0,0 +1,72 @@
+package mthree.com.fullstackschool.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import mthree.com.fullstackschool.model.Course;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Payload size and serialization time for a large getAllCourses style response, per format.
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+public class SerializationBenchmarkTests {
+
+    private static final int COURSES = 200_000;
+    private static final int ROUNDS = 10;
+
+    @Test
+    @DisplayName("Course list serialization per format")
+    public void courseListSerializationBenchmark() throws IOException {
+        List<Course> courses = new ArrayList<>(COURSES);
+        for (int i = 1; i <= COURSES; i++) {
+            Course course = new Course();
+            course.setCourseId(i);
+            course.setCourseName("CS" + (100 + i % 900));
+            course.setCourseDesc("Course description number " + i);
+            course.setTeacherId(1 + i % 10);
+            courses.add(course);
+        }
+
+        byte[] json = report("json", new ObjectMapper(), courses);
+        byte[] blackbird = report("json+blackbird", new ObjectMapper().registerModule(new BlackbirdModule()), courses);
+        byte[] cbor = report("cbor+blackbird", new ObjectMapper(new CBORFactory()).registerModule(new BlackbirdModule()), courses);
+        byte[] smile = report("smile+blackbird", new ObjectMapper(new SmileFactory()).registerModule(new BlackbirdModule()), courses);
+
+        assertArrayEquals(json, blackbird);
+        assertTrue(cbor.length < json.length);
+        assertTrue(smile.length < json.length);
+        assertTrue(gzip(json).length < json.length / 4);
+    }
+
+    private byte[] report(String name, ObjectMapper mapper, List<Course> courses) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(courses);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            bytes = mapper.writeValueAsBytes(courses);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-16s %,8.1f ms  %,11d bytes  %,10d gzipped%n",
+                name, best / 1e6, bytes.length, gzip(bytes).length);
+        return bytes;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
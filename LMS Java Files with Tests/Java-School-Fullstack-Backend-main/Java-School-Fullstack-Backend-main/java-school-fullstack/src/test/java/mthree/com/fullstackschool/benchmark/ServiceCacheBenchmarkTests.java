@@ -0,0 +1,64 @@
+package mthree.com.fullstackschool.benchmark;
+
+import mthree.com.fullstackschool.config.CacheConfig;
+import mthree.com.fullstackschool.dao.CourseDao;
+import mthree.com.fullstackschool.service.CourseServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ServiceCacheBenchmarkTests {
+
+    private static final int ROUNDS = 500_000;
+
+    @Autowired
+    CourseDao courseDao;
+
+    @Autowired
+    CourseServiceImpl courseService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Test
+    @DisplayName("Course lookups with and without the cache")
+    public void courseLookupBenchmark() {
+        // skewed ids like real traffic: most reads go to a few popular courses
+        int[] ids = new int[ROUNDS];
+        Random random = new Random(42);
+        for (int i = 0; i < ROUNDS; i++) {
+            ids[i] = Math.min(14, 1 + (int) Math.abs(random.nextGaussian() * 4));
+        }
+
+        double direct = time(ids, true);
+        cacheManager.getCache(CacheConfig.COURSES).clear();
+        double cached = time(ids, false);
+
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.COURSES);
+        double hitRate = cache.getNativeCache().stats().hitRate();
+        System.out.printf("getCourseById: dao %,.2f us/op, cached %,.2f us/op, hit rate %.4f%n",
+                direct, cached, hitRate);
+        assertTrue(cached < direct);
+    }
+
+    private double time(int[] ids, boolean direct) {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int id : ids) {
+            checksum += direct ? courseDao.findCourseById(id).getCourseId() : courseService.getCourseById(id).getCourseId();
+        }
+        assertTrue(checksum > 0);
+        return (System.nanoTime() - start) / 1e3 / ids.length;
+    }
+}
@@ -0,0 +1,63 @@
+package mthree.com.fullstackschool.benchmark;
+
+import mthree.com.fullstackschool.dao.StudentDao;
+import mthree.com.fullstackschool.dao.StudentDaoImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class StudentDaoBenchmarkTests {
+
+    private static final int WARMUP = 20_000;
+    private static final int ROUNDS = 200_000;
+
+    private StudentDao studentDao;
+
+    @Autowired
+    public void StudentDaoBenchmarkTests(JdbcTemplate jdbcTemplate) {
+        studentDao = new StudentDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("getAllStudents throughput")
+    public void getAllStudentsBenchmark() {
+        for (int i = 0; i < WARMUP; i++) {
+            studentDao.getAllStudents();
+        }
+        long start = System.nanoTime();
+        int rows = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            rows += studentDao.getAllStudents().size();
+        }
+        report("getAllStudents", start);
+        assertEquals(8 * ROUNDS, rows);
+    }
+
+    @Test
+    @DisplayName("findStudentById throughput")
+    public void findStudentByIdBenchmark() {
+        for (int i = 0; i < WARMUP; i++) {
+            studentDao.findStudentById(i % 8 + 1);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertNotNull(studentDao.findStudentById(i % 8 + 1));
+        }
+        report("findStudentById", start);
+    }
+
+    private static void report(String name, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s: %,.0f ops/s (%,.2f us/op)%n", name, ROUNDS / seconds, seconds * 1e6 / ROUNDS);
+    }
+}
@@ -0,0 +1,75 @@
+package mthree.com.fullstackschool.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import mthree.com.fullstackschool.model.Course;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ContentNegotiationTests {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    RequestMappingHandlerAdapter handlerAdapter;
+
+    @Test
+    @DisplayName("CBOR Is Served When Asked For")
+    public void cborResponseTest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/course/1").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn();
+
+        Course course = new ObjectMapper(new CBORFactory())
+                .readValue(result.getResponse().getContentAsByteArray(), Course.class);
+        assertEquals(1, course.getCourseId());
+        assertEquals("CS148", course.getCourseName());
+    }
+
+    @Test
+    @DisplayName("JSON Is Still The Default")
+    public void jsonByDefaultTest() throws Exception {
+        mockMvc.perform(get("/course/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("The Only CBOR And Smile Converters Are Built By Boot With Blackbird")
+    public void cborConverterUsesBootMapperTest() {
+        List<MappingJackson2CborHttpMessageConverter> cbor = handlerAdapter.getMessageConverters().stream()
+                .filter(MappingJackson2CborHttpMessageConverter.class::isInstance)
+                .map(MappingJackson2CborHttpMessageConverter.class::cast)
+                .collect(Collectors.toList());
+        assertEquals(1, cbor.size());
+        assertTrue(cbor.get(0).getObjectMapper().getRegisteredModuleIds()
+                .contains(new BlackbirdModule().getTypeId()));
+        assertEquals(1, handlerAdapter.getMessageConverters().stream()
+                .filter(MappingJackson2SmileHttpMessageConverter.class::isInstance)
+                .count());
+    }
+}
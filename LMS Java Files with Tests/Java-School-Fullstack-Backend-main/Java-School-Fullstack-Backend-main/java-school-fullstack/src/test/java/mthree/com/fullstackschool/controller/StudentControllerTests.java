@@ -0,0 +1,33 @@
+package mthree.com.fullstackschool.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class StudentControllerTests {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Malformed Enrollment Pair Is A Bad Request")
+    public void malformedEnrollTest() throws Exception {
+        mockMvc.perform(post("/student/enroll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[[1, 2], [3]]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/student/enroll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[[1, 2, 3]]"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -3,6 +3,7 @@ package mthree.com.fullstackschool.dao;
 
 
 import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseWithStudents;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -91,7 +92,40 @@ public class CourseDaoImplTests {
         String sql = "Select count(student_id) from course_student where course_id = 7";
         int studentCount = jdbcTemplate.queryForObject(sql, Integer.class);
         assertEquals(4, studentCount);
+        courseDao.deleteAllStudentsFromCourse(7);
         studentCount = jdbcTemplate.queryForObject(sql, Integer.class);
         assertEquals(0, studentCount);
     }
+
+    @Test
+    @DisplayName("Find Course 7 With Students")
+    public void findCourseWithStudentsTest() {
+        CourseWithStudents course = courseDao.findCourseWithStudents(7);
+        assertNotNull(course);
+        assertEquals("CS503", course.getCourseName());
+        assertEquals(4, course.getStudents().size());
+        assertEquals("Ifeanyi", course.getStudents().get(0).getStudentFirstName());
+    }
+
+    @Test
+    @DisplayName("Get All Courses With Students")
+    public void getAllCoursesWithStudentsTest() {
+        List<CourseWithStudents> courses = courseDao.getAllCoursesWithStudents();
+        assertEquals(14, courses.size());
+        int enrollments = 0;
+        for (CourseWithStudents course : courses) {
+            enrollments += course.getStudents().size();
+        }
+        assertEquals(37, enrollments);
+        assertTrue(courses.get(13).getStudents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Delete Courses By Id List")
+    public void deleteCoursesTest() {
+        courseDao.deleteCourses(new int[]{1, 2, 14});
+        assertEquals(11, courseDao.getAllCourses().size());
+        String sql = "Select count(*) from course_student where course_id in (1, 2)";
+        assertEquals(0, jdbcTemplate.queryForObject(sql, Integer.class));
+    }
 }
@@ -0,0 +1,45 @@
+package mthree.com.fullstackschool.dao;
+
+import mthree.com.fullstackschool.model.EnrollmentGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class EnrollmentGraphDaoImplTests {
+
+    private EnrollmentGraphDao enrollmentGraphDao;
+
+    @Autowired
+    public void EnrollmentGraphDaoImplTests(JdbcTemplate jdbcTemplate) {
+        enrollmentGraphDao = new EnrollmentGraphDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Load Enrollment Graph Test")
+    public void loadEnrollmentGraphTest() {
+        EnrollmentGraph graph = enrollmentGraphDao.loadEnrollmentGraph();
+        assertEquals(37, graph.enrollmentCount());
+        assertArrayEquals(new int[]{4, 6, 7, 8}, graph.studentsInCourse(7));
+        assertArrayEquals(new int[]{3, 5, 6, 7}, graph.coursesForStudent(8));
+        assertEquals(0, graph.studentCount(14));
+        assertTrue(graph.isEnrolled(1, 5));
+        assertFalse(graph.isEnrolled(1, 4));
+    }
+
+    @Test
+    @DisplayName("Shared Students Test")
+    public void sharedStudentsTest() {
+        EnrollmentGraph graph = enrollmentGraphDao.loadEnrollmentGraph();
+        //Course 5 has students 1, 3, 4, 6, 7, 8 and course 6 has 2, 4, 5, 6, 7, 8
+        assertArrayEquals(new int[]{4, 6, 7, 8}, graph.sharedStudents(5, 6));
+        assertEquals(4, graph.sharedStudentCount(6, 5));
+        assertEquals(0, graph.sharedStudentCount(5, 99));
+    }
+}
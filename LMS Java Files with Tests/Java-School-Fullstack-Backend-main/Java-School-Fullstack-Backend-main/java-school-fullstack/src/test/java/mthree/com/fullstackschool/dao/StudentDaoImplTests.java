@@ -7,18 +7,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJdbcTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StudentDaoImpl.class)
 public class StudentDaoImplTests {
     private JdbcTemplate jdbcTemplate;
     private StudentDao studentDao;
 
+    // the Spring bean, so its @Transactional methods run in their own transaction
+    @Autowired
+    private StudentDao transactionalStudentDao;
+
     @Autowired
     public void StudentDaoImplTest(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
@@ -37,6 +47,25 @@ public class StudentDaoImplTests {
         assertEquals(9, newList.size());
     }
 
+    @Test
+    @DisplayName("Add New Students In One Batch Test")
+    public void addNewStudentsTest() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Student student = new Student();
+            student.setStudentFirstName("Batch First " + i);
+            student.setStudentLastName("Batch Last " + i);
+            students.add(student);
+        }
+        studentDao.createNewStudents(students);
+        assertEquals(11, studentDao.getAllStudents().size());
+        for (int i = 0; i < 3; i++) {
+            Student saved = studentDao.findStudentById(students.get(i).getStudentId());
+            assertEquals("Batch First " + i, saved.getStudentFirstName());
+            assertEquals("Batch Last " + i, saved.getStudentLastName());
+        }
+    }
+
     @Test
     @DisplayName("Get A List Of All Students")
     public void getListOfAllStudentsTest() {
@@ -82,4 +111,40 @@ public class StudentDaoImplTests {
         assertNotNull(studentDao.getAllStudents());
         assertEquals(7, studentDao.getAllStudents().size());
     }
+
+    @Test
+    @DisplayName("Enroll Pairs In One Batch Test")
+    public void enrollBatchTest() {
+        //Student 8 starts out in courses 3, 5, 6 and 7
+        studentDao.enroll(List.of(new int[]{8, 1}, new int[]{8, 2}));
+        studentDao.addStudentsToCourse(4, new int[]{8});
+        assertEquals(7, enrollmentsOf(8));
+        assertTrue(studentDao.getStudentsInCourse(4).stream().anyMatch(s -> s.getStudentId() == 8));
+    }
+
+    @Test
+    @DisplayName("Duplicate Enrollment Is Rejected On Every Path")
+    public void duplicateEnrollmentTest() {
+        //Student 1 is already in course 1
+        assertThrows(DuplicateKeyException.class, () -> studentDao.addStudentToCourse(1, 1));
+        assertThrows(DuplicateKeyException.class, () -> studentDao.enroll(List.of(new int[]{1, 1})));
+        assertThrows(DuplicateKeyException.class, () -> studentDao.addStudentsToCourse(1, new int[]{1}));
+    }
+
+    @Test
+    @DisplayName("Bad Pair Rolls Back The Whole Batch")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void enrollRollbackTest() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> transactionalStudentDao.enroll(List.of(new int[]{8, 1}, new int[]{99, 1})));
+        //Student 1 is already in course 2
+        assertThrows(DuplicateKeyException.class,
+                () -> transactionalStudentDao.addStudentsToCourse(2, new int[]{8, 1}));
+        assertEquals(4, enrollmentsOf(8));
+    }
+
+    private int enrollmentsOf(int studentId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM course_student WHERE student_id = ?", Integer.class, studentId);
+    }
 }
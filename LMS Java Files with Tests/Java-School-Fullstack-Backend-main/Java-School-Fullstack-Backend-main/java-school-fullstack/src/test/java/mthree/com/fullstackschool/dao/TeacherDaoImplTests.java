@@ -8,6 +8,7 @@ import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +39,25 @@ public class TeacherDaoImplTests {
         assertEquals(11, teachers.size());
     }
 
+    @Test
+    @DisplayName("Create new Teachers In One Batch Test")
+    public void createNewTeachersTest() {
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Teacher teacher = new Teacher();
+            teacher.setTeacherFName("Batch First " + i);
+            teacher.setTeacherLName("Batch Last " + i);
+            teacher.setDept("Batch");
+            teachers.add(teacher);
+        }
+        teacherDao.createNewTeachers(teachers);
+        assertEquals(13, teacherDao.getAllTeachers().size());
+        for (int i = 0; i < 3; i++) {
+            Teacher saved = teacherDao.findTeacherById(teachers.get(i).getTeacherId());
+            assertEquals("Batch First " + i, saved.getTeacherFName());
+        }
+    }
+
     @Test
     @DisplayName("Get All Teachers Test")
     public void getAllTeachersTest() {
@@ -89,4 +109,26 @@ public class TeacherDaoImplTests {
         assertNotNull(newList);
         assertEquals(9, newList.size());
     }
+
+    @Test
+    @DisplayName("Delete a Teacher With Courses Test")
+    public void deleteTeacherWithCoursesTest() {
+        //Teacher 1 teaches courses 1 and 3
+        teacherDao.deleteTeacherWithCourses(1);
+        assertEquals(9, teacherDao.getAllTeachers().size());
+        String sql = "Select count(*) from course where teacherId = 1";
+        assertEquals(0, jdbcTemplate.queryForObject(sql, Integer.class));
+        sql = "Select count(*) from course_student where course_id in (1, 3)";
+        assertEquals(0, jdbcTemplate.queryForObject(sql, Integer.class));
+    }
+
+    @Test
+    @DisplayName("Delete a Department Test")
+    public void deleteDepartmentTest() {
+        assertEquals(5, teacherDao.deleteDepartment("English"));
+        assertEquals(5, teacherDao.getAllTeachers().size());
+        //EN220 belonged to teacher 10, the other English courses have no existing teacher
+        String sql = "Select count(*) from course";
+        assertEquals(13, jdbcTemplate.queryForObject(sql, Integer.class));
+    }
 }
@@ -0,0 +1,144 @@
+package mthree.com.fullstackschool.dao.memory;
+
+import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseWithStudents;
+import mthree.com.fullstackschool.model.Student;
+import mthree.com.fullstackschool.model.Teacher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryDaoTests {
+
+    private final InMemorySchool school;
+    private final InMemoryStudentDao studentDao;
+    private final InMemoryCourseDao courseDao;
+    private final InMemoryTeacherDao teacherDao;
+
+    public InMemoryDaoTests() {
+        school = new InMemorySchool();
+        studentDao = new InMemoryStudentDao(school);
+        courseDao = new InMemoryCourseDao(school);
+        teacherDao = new InMemoryTeacherDao(school);
+
+        for (int i = 1; i <= 3; i++) {
+            Student student = new Student();
+            student.setStudentFirstName("First " + i);
+            student.setStudentLastName("Last " + i);
+            studentDao.createNewStudent(student);
+
+            Teacher teacher = new Teacher();
+            teacher.setTeacherFName("Teacher " + i);
+            teacher.setTeacherLName("Teacher " + i);
+            teacher.setDept(i == 3 ? "English" : "Computer Science");
+            teacherDao.createNewTeacher(teacher);
+
+            Course course = new Course();
+            course.setCourseName("Course " + i);
+            course.setCourseDesc("Course " + i);
+            course.setTeacherId(i);
+            courseDao.createNewCourse(course);
+        }
+    }
+
+    @Test
+    @DisplayName("Find Missing Student Throws")
+    public void findMissingStudentTest() {
+        assertEquals("First 2", studentDao.findStudentById(2).getStudentFirstName());
+        assertThrows(DataAccessException.class, () -> studentDao.findStudentById(99));
+    }
+
+    @Test
+    @DisplayName("Enroll Students In Course")
+    public void enrollStudentsTest() {
+        studentDao.addStudentsToCourse(1, new int[]{3, 1, 2});
+        CourseWithStudents course = courseDao.findCourseWithStudents(1);
+        assertEquals(3, course.getStudents().size());
+        assertEquals(1, course.getStudents().get(0).getStudentId());
+        assertThrows(DuplicateKeyException.class, () -> studentDao.addStudentToCourse(2, 1));
+        assertThrows(DataAccessException.class, () -> studentDao.addStudentToCourse(99, 1));
+        // a duplicate later in the batch undoes the pairs added before it
+        assertThrows(DuplicateKeyException.class, () -> studentDao.addStudentsToCourse(2, new int[]{1, 2, 1}));
+        assertTrue(courseDao.findCourseWithStudents(2).getStudents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Delete Student Removes Enrollments")
+    public void deleteStudentTest() {
+        studentDao.addStudentToCourse(2, 1);
+        studentDao.addStudentToCourse(2, 2);
+        studentDao.deleteStudent(2);
+        assertEquals(2, studentDao.getAllStudents().size());
+        assertTrue(courseDao.findCourseWithStudents(1).getStudents().isEmpty());
+        assertTrue(courseDao.findCourseWithStudents(2).getStudents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Delete Department Removes Courses")
+    public void deleteDepartmentTest() {
+        studentDao.addStudentToCourse(1, 3);
+        assertEquals(1, teacherDao.deleteDepartment("English"));
+        assertEquals(2, teacherDao.getAllTeachers().size());
+        assertEquals(2, courseDao.getAllCourses().size());
+        assertThrows(DataAccessException.class, () -> courseDao.findCourseWithStudents(3));
+    }
+
+    @Test
+    @DisplayName("Enroll Racing Delete Leaves No Orphans")
+    public void enrollRacingDeleteTest() {
+        for (int i = 0; i < 2000; i++) {
+            Student student = new Student();
+            student.setStudentFirstName("Racer");
+            student.setStudentLastName("Racer");
+            int id = studentDao.createNewStudent(student).getStudentId();
+            CompletableFuture<Void> delete = CompletableFuture.runAsync(() -> studentDao.deleteStudent(id));
+            try {
+                studentDao.addStudentToCourse(id, 1);
+            } catch (DataAccessException e) {
+                // lost the race, the student was already gone
+            }
+            delete.join();
+            assertEquals(0, school.enrollments.coursesOf(id).length);
+        }
+    }
+
+    @Test
+    @DisplayName("Int Set Map Grows And Removes")
+    public void intSetMapTest() {
+        IntSetMap map = new IntSetMap();
+        for (int key = 1; key <= 1000; key++) {
+            map.getOrCreate(key).add(key * 2);
+        }
+        for (int key = 1; key <= 1000; key += 2) {
+            assertNotNull(map.remove(key));
+        }
+        assertEquals(500, map.size());
+        assertNull(map.get(999));
+        assertNull(map.remove(999));
+        assertNull(map.remove(0));
+        assertEquals(500, map.size());
+        for (int key = 2; key <= 1000; key += 2) {
+            assertArrayEquals(new int[]{key * 2}, map.get(key).toSortedArray());
+        }
+    }
+
+    @Test
+    @DisplayName("Removing Id 0 Leaves Enrollments Intact")
+    public void removeZeroTest() {
+        studentDao.addStudentToCourse(1, 1);
+        studentDao.deleteStudentFromCourse(1, 0);
+        studentDao.deleteStudentFromCourse(0, 1);
+        assertArrayEquals(new int[]{1}, school.enrollments.coursesOf(1));
+        assertArrayEquals(new int[]{1}, school.enrollments.studentsIn(1));
+
+        IntSet set = new IntSet();
+        set.add(5);
+        assertFalse(set.remove(0));
+        assertArrayEquals(new int[]{5}, set.toSortedArray());
+    }
+}
@@ -0,0 +1,62 @@
+package mthree.com.fullstackschool.limits;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndpointLimiterTests {
+
+    @Test
+    @DisplayName("Token Bucket Allows A Burst Then Refills At The Rate")
+    public void tokenBucketTest() {
+        AtomicLong now = new AtomicLong(1_000_000_000L);
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        long wait = bucket.tryAcquire();
+        assertEquals(100_000_000L, wait);
+
+        now.addAndGet(wait);
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0);
+
+        // a long idle period refills only up to the burst
+        now.addAndGet(10_000_000_000L);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire());
+        }
+        assertTrue(bucket.tryAcquire() > 0);
+    }
+
+    @Test
+    @DisplayName("Bulkhead Refuses Requests Over The Limit")
+    public void bulkheadTest() {
+        Bulkhead bulkhead = new Bulkhead(2);
+        assertTrue(bulkhead.tryEnter());
+        assertTrue(bulkhead.tryEnter());
+        assertFalse(bulkhead.tryEnter());
+        bulkhead.exit();
+        assertTrue(bulkhead.tryEnter());
+        assertEquals(2, bulkhead.getInFlight());
+        assertEquals(2, bulkhead.getPeak());
+    }
+
+    @Test
+    @DisplayName("Endpoint Limiter Counts Admitted And Refused Requests")
+    public void endpointLimiterStatsTest() {
+        EndpointLimiter limiter = new EndpointLimiter(1, 0, 1);
+        assertEquals(EndpointLimiter.ADMITTED, limiter.tryEnter());
+        assertTrue(limiter.tryEnter() > 0);
+        limiter.exit();
+
+        assertEquals(1L, limiter.stats().get("admitted"));
+        assertEquals(1L, limiter.stats().get("bulkheadFull"));
+        assertEquals(0L, limiter.stats().get("rateLimited"));
+        assertEquals(0, limiter.stats().get("inFlight"));
+    }
+}
@@ -0,0 +1,84 @@
+package mthree.com.fullstackschool.loadtest;
+
+// Log-linear latency histogram in microseconds: exact below 64us, then 32 buckets per
+// power of two (about 3% resolution). One per client thread, merged for the report.
+public class LatencyHistogram {
+
+    private static final int LINEAR = 64;
+    private static final int SUB_BUCKETS = 32;
+
+    private final long[] counts = new long[LINEAR + (63 - 6) * SUB_BUCKETS];
+    private long total;
+    private long max;
+
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        counts[index(value)]++;
+        total++;
+        max = Math.max(max, value);
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return total;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    // Upper bound of the bucket holding the given percentile (0-100)
+    public long percentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    // Share of samples at or below each limit, for a coarse printed histogram
+    public String describe(long... limitsMicros) {
+        StringBuilder out = new StringBuilder();
+        for (long limit : limitsMicros) {
+            long below = 0;
+            for (int i = 0; i < counts.length && upperBound(i) <= limit; i++) {
+                below += counts[i];
+            }
+            out.append(String.format("  <= %,8d us  %6.2f%%%n", limit, total == 0 ? 0 : 100.0 * below / total));
+        }
+        return out.toString();
+    }
+
+    private static int index(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 5)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exponent - 6) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int exponent = (index - LINEAR) / SUB_BUCKETS + 6;
+        int sub = (index - LINEAR) % SUB_BUCKETS;
+        long width = 1L << (exponent - 5);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+}
@@ -0,0 +1,214 @@
+package mthree.com.fullstackschool.loadtest;
+
+import mthree.com.fullstackschool.benchmark.EnrollmentDataGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Drives the Student, Course and Teacher controllers over HTTP with many concurrent clients
+// against a generated dataset in its own in-memory H2, then prints throughput and latency
+// percentiles per operation. Run with: mvn test -Ploadtest
+// Settings (system properties, defaults in brackets):
+//   loadtest.students [200000], loadtest.courses [20000], loadtest.coursesPerStudent [5]
+//   loadtest.clients [32], loadtest.warmupSeconds [5], loadtest.seconds [30], loadtest.readRatio [0.9]
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;QUERY_CACHE_SIZE=64",
+        "spring.datasource.hikari.maximum-pool-size=20"})
+public class RestApiLoadTests {
+
+    private static final int STUDENTS = Integer.getInteger("loadtest.students", 200_000);
+    private static final int COURSES = Integer.getInteger("loadtest.courses", 20_000);
+    private static final int COURSES_PER_STUDENT = Integer.getInteger("loadtest.coursesPerStudent", 5);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 30);
+    private static final double READ_RATIO = Double.parseDouble(System.getProperty("loadtest.readRatio", "0.9"));
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private int firstStudent;
+    private int firstCourse;
+
+    @Test
+    @DisplayName("REST API load test")
+    public void restApiLoadTest() throws InterruptedException {
+        long start = System.nanoTime();
+        EnrollmentDataGenerator generator = new EnrollmentDataGenerator(jdbcTemplate);
+        generator.generate(STUDENTS, COURSES, COURSES_PER_STUDENT);
+        firstStudent = generator.getFirstStudentId();
+        firstCourse = generator.getFirstCourseId();
+        System.out.printf("generated %,d students, %,d courses, %,d enrollments in %,d ms%n",
+                STUDENTS, COURSES, (long) STUDENTS * COURSES_PER_STUDENT, (System.nanoTime() - start) / 1_000_000);
+
+        run(WARMUP_SECONDS);
+        List<Client> clients = run(SECONDS);
+
+        Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        Map<String, Long> errors = new TreeMap<>();
+        LatencyHistogram all = new LatencyHistogram();
+        for (Client client : clients) {
+            client.histograms.forEach((op, h) -> histograms.computeIfAbsent(op, k -> new LatencyHistogram()).add(h));
+            client.errors.forEach((op, n) -> errors.merge(op, n, Long::sum));
+        }
+        histograms.values().forEach(all::add);
+
+        System.out.printf("%n%d clients, %d s, read ratio %.2f%n", CLIENTS, SECONDS, READ_RATIO);
+        System.out.printf("%-16s %10s %10s %9s %9s %9s %9s %7s%n",
+                "operation", "requests", "req/s", "p50 us", "p99 us", "p999 us", "max us", "errors");
+        histograms.forEach((op, h) -> print(op, h, errors.getOrDefault(op, 0L)));
+        print("all", all, errors.values().stream().mapToLong(Long::longValue).sum());
+        System.out.print(all.describe(500, 1_000, 2_000, 5_000, 10_000, 50_000, 100_000, 1_000_000));
+
+        assertTrue(all.count() > 0);
+    }
+
+    private void print(String op, LatencyHistogram h, long errors) {
+        System.out.printf("%-16s %,10d %,10.0f %,9d %,9d %,9d %,9d %,7d%n", op, h.count(), h.count() / (double) SECONDS,
+                h.percentile(50), h.percentile(99), h.percentile(99.9), h.max(), errors);
+    }
+
+    private List<Client> run(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = new Client(deadline, done);
+            clients.add(client);
+            new Thread(client, "load-client-" + i).start();
+        }
+        done.await();
+        return clients;
+    }
+
+    private class Client implements Runnable {
+        final Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        final Map<String, Long> errors = new TreeMap<>();
+        private final long deadline;
+        private final CountDownLatch done;
+
+        Client(long deadline, CountDownLatch done) {
+            this.deadline = deadline;
+            this.done = done;
+        }
+
+        @Override
+        public void run() {
+            try {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    if (random.nextDouble() < READ_RATIO) {
+                        read(random);
+                    } else {
+                        write(random);
+                    }
+                }
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void read(ThreadLocalRandom random) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    call("getStudent", get("/student/" + student(random)));
+                    break;
+                case 1:
+                    call("getCourse", get("/course/" + course(random)));
+                    break;
+                case 2:
+                    call("getTeacher", get("/teacher/" + (random.nextInt(10) + 1)));
+                    break;
+                case 3:
+                    call("getRoster", get("/course/" + course(random) + "/students"));
+                    break;
+                default:
+                    call("getCourseDetail", get("/course/" + course(random) + "/detail"));
+                    break;
+            }
+        }
+
+        private void write(ThreadLocalRandom random) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    call("addStudent", json("/student/add", "POST",
+                            "{\"studentFirstName\":\"Load\",\"studentLastName\":\"Test\"}"));
+                    break;
+                case 1:
+                    int id = student(random);
+                    call("updateStudent", json("/student/" + id, "PUT",
+                            "{\"studentId\":" + id + ",\"studentFirstName\":\"First" + id
+                                    + "\",\"studentLastName\":\"Updated\"}"));
+                    break;
+                case 2:
+                    call("enroll", json("/student/" + student(random) + "/" + course(random), "POST", ""));
+                    break;
+                default:
+                    call("unenroll", request("/student/" + student(random) + "/" + course(random)).DELETE().build());
+                    break;
+            }
+        }
+
+        private void call(String operation, HttpRequest request) {
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (Exception ex) {
+                ok = false;
+            }
+            histograms.computeIfAbsent(operation, k -> new LatencyHistogram()).record((System.nanoTime() - start) / 1_000);
+            if (!ok) {
+                errors.merge(operation, 1L, Long::sum);
+            }
+        }
+
+        private int student(ThreadLocalRandom random) {
+            return firstStudent + random.nextInt(STUDENTS);
+        }
+
+        private int course(ThreadLocalRandom random) {
+            return firstCourse + random.nextInt(COURSES);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, String body) {
+        return request(path).header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(30));
+    }
+}
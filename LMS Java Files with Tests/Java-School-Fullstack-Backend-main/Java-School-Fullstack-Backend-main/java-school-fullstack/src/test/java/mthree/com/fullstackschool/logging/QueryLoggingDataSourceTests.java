@@ -0,0 +1,33 @@
+package mthree.com.fullstackschool.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryLoggingDataSourceTests {
+
+    private final SingleConnectionDataSource target = new SingleConnectionDataSource("jdbc:h2:mem:querylog", true);
+    private final QueryLog queryLog = new QueryLog(0, 250);
+    private final QueryLoggingDataSource dataSource = new QueryLoggingDataSource(target, queryLog);
+
+    @AfterEach
+    public void close() {
+        target.destroy();
+    }
+
+    @Test
+    @DisplayName("Connections Are Not Wrapped While Sampling Is Off")
+    public void unwrappedWhenQuietTest() throws Exception {
+        assertSame(target.getConnection(), dataSource.getConnection());
+
+        queryLog.setSampleRate(0.5);
+        Connection wrapped = dataSource.getConnection();
+        assertNotSame(target.getConnection(), wrapped);
+        assertTrue(wrapped.prepareStatement("SELECT 1").execute());
+    }
+}
@@ -0,0 +1,47 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.model.CourseDetail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncCourseServiceTests {
+
+    private final ExecutorService dbExecutor = Executors.newFixedThreadPool(3);
+    private AsyncCourseServiceImpl asyncCourseService;
+
+    public AsyncCourseServiceTests() {
+        CourseServiceImpl courseService = new CourseServiceImpl(new CourseDaoStubImpl(), event -> { });
+        asyncCourseService = new AsyncCourseServiceImpl(
+                courseService,
+                new AsyncStudentServiceImpl(new StudentServiceImpl(new studentDaoStubImpl(), courseService, event -> { }), dbExecutor),
+                new AsyncTeacherServiceImpl(new TeacherServiceImpl(new TeacherDaoStubImpl(), event -> { }), dbExecutor),
+                dbExecutor);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        dbExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Course Detail Service Test")
+    public void courseDetailServiceTest() {
+        CourseDetail detail = asyncCourseService.getCourseDetail(121).join();
+        assertNotNull(detail);
+        assertEquals("Service Course Stub", detail.getCourse().getCourseName());
+        assertEquals("Thomas", detail.getTeacher().getTeacherFName());
+    }
+
+    @Test
+    @DisplayName("Course Detail Not Found Service Test")
+    public void courseDetailNotFoundServiceTest() {
+        CourseDetail detail = asyncCourseService.getCourseDetail(99).join();
+        assertEquals("Course Not Found", detail.getCourse().getCourseName());
+    }
+}
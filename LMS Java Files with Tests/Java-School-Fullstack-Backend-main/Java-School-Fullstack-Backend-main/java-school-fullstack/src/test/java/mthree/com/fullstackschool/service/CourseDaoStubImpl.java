@@ -2,6 +2,7 @@ package mthree.com.fullstackschool.service;
 
 import mthree.com.fullstackschool.dao.CourseDao;
 import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.CourseWithStudents;
 import java.util.List;
 
 public class CourseDaoStubImpl implements CourseDao {
@@ -40,6 +41,12 @@ public class CourseDaoStubImpl implements CourseDao {
         return course;
     }
 
+    @Override
+    public List<Course> createNewCourses(List<Course> courses) {
+        //Pass through method no tests
+        return courses;
+    }
+
     @Override
     public void updateCourse(Course course) {
             onlyCourse.setCourseName(course.getCourseName());
@@ -57,4 +64,21 @@ public class CourseDaoStubImpl implements CourseDao {
         //Pass through method no tests
     }
 
+    @Override
+    public void deleteCourses(int[] ids) {
+        //Pass through method no tests
+    }
+
+    @Override
+    public CourseWithStudents findCourseWithStudents(int id) {
+        //Pass through method no tests
+        return null;
+    }
+
+    @Override
+    public List<CourseWithStudents> getAllCoursesWithStudents() {
+        //Pass through method no tests
+        return null;
+    }
+
 }
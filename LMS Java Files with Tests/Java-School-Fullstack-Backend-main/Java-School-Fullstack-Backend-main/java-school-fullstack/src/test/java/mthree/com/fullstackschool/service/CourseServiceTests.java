@@ -13,7 +13,7 @@ public class CourseServiceTests {
 
     public CourseServiceTests() {
         CourseDao courseDao = new CourseDaoStubImpl();
-        courseService = new CourseServiceImpl(courseDao);
+        courseService = new CourseServiceImpl(courseDao, event -> { });
     }
 
     @Test
@@ -0,0 +1,77 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.dao.memory.InMemoryCourseDao;
+import mthree.com.fullstackschool.dao.memory.InMemoryEnrollmentGraphDao;
+import mthree.com.fullstackschool.dao.memory.InMemorySchool;
+import mthree.com.fullstackschool.dao.memory.InMemoryStudentDao;
+import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.EnrollmentGraph;
+import mthree.com.fullstackschool.model.Student;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnrollmentGraphServiceTests {
+
+    private final InMemorySchool school = new InMemorySchool();
+    private int loads;
+    private final EnrollmentGraphService graphService;
+    private final StudentServiceImpl studentService;
+
+    public EnrollmentGraphServiceTests() {
+        InMemoryEnrollmentGraphDao graphDao = new InMemoryEnrollmentGraphDao(school);
+        graphService = new EnrollmentGraphService(() -> {
+            loads++;
+            return graphDao.loadEnrollmentGraph();
+        });
+        // stands in for the application context delivering the event to the listener
+        CourseServiceImpl courseService = new CourseServiceImpl(new InMemoryCourseDao(school),
+                event -> graphService.onEnrollmentsChanged());
+        studentService = new StudentServiceImpl(new InMemoryStudentDao(school), courseService,
+                event -> graphService.onEnrollmentsChanged());
+
+        for (int i = 1; i <= 2; i++) {
+            Student student = new Student();
+            student.setStudentFirstName("First " + i);
+            student.setStudentLastName("Last " + i);
+            studentService.addNewStudent(student);
+
+            Course course = new Course();
+            course.setCourseName("Course " + i);
+            course.setCourseDesc("Course " + i);
+            course.setTeacherId(1);
+            courseService.addNewCourse(course);
+        }
+    }
+
+    @Test
+    @DisplayName("Graph Follows Enrollment Writes")
+    public void graphFollowsWritesTest() {
+        assertArrayEquals(new int[0], graphService.getStudentsInCourse(1));
+
+        studentService.enroll(List.of(new int[]{1, 1}, new int[]{2, 1}));
+        assertArrayEquals(new int[]{1, 2}, graphService.getStudentsInCourse(1));
+
+        studentService.deleteStudentFromCourse(1, 1);
+        assertArrayEquals(new int[]{2}, graphService.getStudentsInCourse(1));
+
+        studentService.deleteStudentById(2);
+        assertArrayEquals(new int[0], graphService.getStudentsInCourse(1));
+    }
+
+    @Test
+    @DisplayName("Graph Reloads Only After A Change")
+    public void graphReloadsOnlyAfterChangeTest() {
+        EnrollmentGraph first = graphService.getGraph();
+        assertSame(first, graphService.getGraph());
+        assertEquals(1, loads);
+
+        studentService.addStudentToCourse(1, 2);
+        assertNotSame(first, graphService.getGraph());
+        graphService.getCoursesForStudent(1);
+        assertEquals(2, loads);
+    }
+}
@@ -0,0 +1,167 @@
+package mthree.com.fullstackschool.service;
+
+import mthree.com.fullstackschool.config.CacheConfig;
+import mthree.com.fullstackschool.model.Course;
+import mthree.com.fullstackschool.model.Teacher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The CourseServiceTests/TeacherServiceTests scenarios run through the caching proxies
+@SpringJUnitConfig(ServiceCacheTests.Config.class)
+public class ServiceCacheTests {
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class Config {
+        @Bean
+        CountingCourseDao courseDao() {
+            return new CountingCourseDao();
+        }
+
+        @Bean
+        CountingTeacherDao teacherDao() {
+            return new CountingTeacherDao();
+        }
+
+        @Bean
+        CourseServiceImpl courseService(CountingCourseDao courseDao, ApplicationEventPublisher events) {
+            return new CourseServiceImpl(courseDao, events);
+        }
+
+        @Bean
+        TeacherServiceImpl teacherService(CountingTeacherDao teacherDao, ApplicationEventPublisher events) {
+            return new TeacherServiceImpl(teacherDao, events);
+        }
+    }
+
+    // The stubs answer any id, these only know their one row and count the lookups
+    static class CountingCourseDao extends CourseDaoStubImpl {
+        int finds;
+
+        @Override
+        public Course findCourseById(int id) {
+            finds++;
+            if (id != onlyCourse.getCourseId()) {
+                throw new EmptyResultDataAccessException(1);
+            }
+            return super.findCourseById(id);
+        }
+    }
+
+    static class CountingTeacherDao extends TeacherDaoStubImpl {
+        int finds;
+
+        @Override
+        public Teacher findTeacherById(int id) {
+            finds++;
+            if (id != onlyTeacher.getTeacherId()) {
+                throw new EmptyResultDataAccessException(1);
+            }
+            return super.findTeacherById(id);
+        }
+    }
+
+    @Autowired
+    CourseServiceImpl courseService;
+
+    @Autowired
+    TeacherServiceImpl teacherService;
+
+    @Autowired
+    CountingCourseDao courseDao;
+
+    @Autowired
+    CountingTeacherDao teacherDao;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @BeforeEach
+    public void clearCaches() {
+        cacheManager.getCache(CacheConfig.COURSES).clear();
+        cacheManager.getCache(CacheConfig.TEACHERS).clear();
+        courseDao.finds = 0;
+        teacherDao.finds = 0;
+        courseDao.onlyCourse.setCourseName("Service Course Stub");
+        teacherDao.onlyTeacher.setTeacherFName("Thomas");
+    }
+
+    @Test
+    @DisplayName("Course Served From Cache")
+    public void courseCachedTest() {
+        assertEquals("Service Course Stub", courseService.getCourseById(121).getCourseName());
+        assertEquals("Service Course Stub", courseService.getCourseById(121).getCourseName());
+        assertEquals(1, courseDao.finds);
+    }
+
+    @Test
+    @DisplayName("Course Update Evicts")
+    public void courseUpdateEvictsTest() {
+        courseService.getCourseById(121);
+        Course course = new Course();
+        course.setCourseId(121);
+        course.setCourseName("Updated Course Name");
+        course.setCourseDesc("Updated Course Desc");
+        course.setTeacherId(10);
+        courseService.updateCourseData(121, course);
+        assertEquals("Updated Course Name", courseService.getCourseById(121).getCourseName());
+        assertEquals(2, courseDao.finds);
+    }
+
+    @Test
+    @DisplayName("Course Delete Evicts")
+    public void courseDeleteEvictsTest() {
+        courseService.getCourseById(121);
+        courseService.deleteCourseById(121);
+        courseService.getCourseById(121);
+        assertEquals(2, courseDao.finds);
+    }
+
+    @Test
+    @DisplayName("Course Not Found Is Not Cached")
+    public void courseNotFoundNotCachedTest() {
+        assertEquals("Course Not Found", courseService.getCourseById(99).getCourseName());
+        assertEquals("Course Not Found", courseService.getCourseById(99).getCourseName());
+        assertEquals(2, courseDao.finds);
+    }
+
+    @Test
+    @DisplayName("Teacher Update And Delete Evict")
+    public void teacherEvictTest() {
+        teacherService.getTeacherById(200);
+        teacherService.getTeacherById(200);
+        assertEquals(1, teacherDao.finds);
+
+        Teacher teacher = new Teacher();
+        teacher.setTeacherId(200);
+        teacher.setTeacherFName("Updated Teacher First Name");
+        teacher.setTeacherLName("Updated Teacher Last Name");
+        teacher.setDept("English");
+        teacherService.updateTeacherData(200, teacher);
+        assertEquals("Updated Teacher First Name", teacherService.getTeacherById(200).getTeacherFName());
+        assertEquals(2, teacherDao.finds);
+
+        teacherService.deleteTeacherById(200);
+        teacherService.getTeacherById(200);
+        assertEquals(3, teacherDao.finds);
+    }
+
+    @Test
+    @DisplayName("Teacher Not Found Is Not Cached")
+    public void teacherNotFoundNotCachedTest() {
+        assertEquals("Teacher Not Found", teacherService.getTeacherById(99).getTeacherFName());
+        teacherService.getTeacherById(99);
+        assertEquals(2, teacherDao.finds);
+    }
+}
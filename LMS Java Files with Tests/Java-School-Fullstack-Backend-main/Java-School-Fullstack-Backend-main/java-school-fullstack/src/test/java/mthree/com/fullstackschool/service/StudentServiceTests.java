@@ -5,6 +5,7 @@ import mthree.com.fullstackschool.model.Student;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -14,7 +15,8 @@ public class StudentServiceTests {
 
     public StudentServiceTests() {
         StudentDao studentDao = new studentDaoStubImpl();
-        studentService = new StudentServiceImpl(studentDao);
+        CourseServiceImpl courseService = new CourseServiceImpl(new CourseDaoStubImpl(), event -> { });
+        studentService = new StudentServiceImpl(studentDao, courseService, event -> { });
     }
 
     @Test
@@ -86,4 +88,11 @@ public class StudentServiceTests {
         assertEquals("First Name blank, student NOT added", student.getStudentFirstName());
         assertEquals("Last Name blank, student NOT added", student.getStudentLastName());
     }
+
+    @Test
+    @DisplayName("Student Course Enrollment Service Test")
+    public void studentCourseEnrollmentServiceTest() {
+        assertDoesNotThrow(() -> studentService.addStudentToCourse(100, 1));
+        assertDoesNotThrow(() -> studentService.deleteStudentFromCourse(100, 1));
+    }
 }
@@ -32,6 +32,12 @@ public class TeacherDaoStubImpl implements TeacherDao {
         return onlyTeacher;
     }
 
+    @Override
+    public Teacher findTeacherByCourseId(int courseId) {
+        //Pass through method no tests
+        return onlyTeacher;
+    }
+
     @Override
     public Teacher createNewTeacher(Teacher teacher) {
         if(teacher.getTeacherFName().toString() == "" ||
@@ -43,6 +49,12 @@ public class TeacherDaoStubImpl implements TeacherDao {
         return teacher;
     }
 
+    @Override
+    public List<Teacher> createNewTeachers(List<Teacher> teachers) {
+        //Pass through method no tests
+        return teachers;
+    }
+
     @Override
     public void updateTeacher(Teacher teacher) {
         onlyTeacher.setTeacherFName(teacher.getTeacherFName());
@@ -55,4 +67,20 @@ public class TeacherDaoStubImpl implements TeacherDao {
         //Pass through method no tests
     }
 
+    @Override
+    public void deleteTeacherWithCourses(int id) {
+        //Pass through method no tests
+    }
+
+    @Override
+    public void deleteTeachersWithCourses(int[] ids) {
+        //Pass through method no tests
+    }
+
+    @Override
+    public int deleteDepartment(String dept) {
+        //Pass through method no tests
+        return 0;
+    }
+
 }
@@ -13,7 +13,7 @@ public class TeacherServiceTests {
 
     public TeacherServiceTests() {
         TeacherDao teacherDao = new TeacherDaoStubImpl();
-        teacherService = new TeacherServiceImpl(teacherDao);
+        teacherService = new TeacherServiceImpl(teacherDao, event -> { });
     }
 
     @Test
@@ -3,6 +3,7 @@ package mthree.com.fullstackschool.service;
 import mthree.com.fullstackschool.dao.StudentDao;
 import mthree.com.fullstackschool.model.Student;
 
+import java.util.Collection;
 import java.util.List;
 
 public class studentDaoStubImpl implements StudentDao {
@@ -40,6 +41,12 @@ public class studentDaoStubImpl implements StudentDao {
         return student;
     }
 
+    @Override
+    public List<Student> createNewStudents(List<Student> students) {
+        //Pass through method no tests
+        return students;
+    }
+
     @Override
     public void updateStudent(Student student) {
             onlyStudent.setStudentFirstName(student.getStudentFirstName());
@@ -60,4 +67,20 @@ public class studentDaoStubImpl implements StudentDao {
     public void deleteStudentFromCourse(int studentId, int courseId) {
         //Pass through method no tests
     }
+
+    @Override
+    public void addStudentsToCourse(int courseId, int[] studentIds) {
+        //Pass through method no tests
+    }
+
+    @Override
+    public void enroll(Collection<int[]> pairs) {
+        //Pass through method no tests
+    }
+
+    @Override
+    public List<Student> getStudentsInCourse(int courseId) {
+        //Pass through method no tests
+        return null;
+    }
 }
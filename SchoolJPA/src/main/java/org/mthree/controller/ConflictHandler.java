@@ -0,0 +1,21 @@
+package org.mthree.controller;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+// A PUT sent with an old version means someone else changed the row first,
+// the client has to GET the current data and try again
+@RestControllerAdvice
+public class ConflictHandler {
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(OptimisticLockingFailureException e) {
+        return Map.of("error", "Version conflict, reload and try again");
+    }
+}
@@ -1,11 +1,17 @@
 package org.mthree.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mthree.entity.Course;
+import org.mthree.repository.CourseRepository.StudentCount;
 import org.mthree.service.CourseService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -14,9 +20,11 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService service;
+    private final ObjectMapper mapper;
 
-    public CourseController(CourseService service) {
+    public CourseController(CourseService service, ObjectMapper mapper) {
         this.service = service;
+        this.mapper = mapper;
     }
 
     @GetMapping
@@ -24,6 +32,28 @@ public class CourseController {
         return service.getAll();
     }
 
+    // Streams every course as newline delimited JSON without building a List.
+    // Only the course columns are written, enrolled students come from /courses/{id}/students
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody export() {
+        return out -> {
+            NdjsonWriter<Course> writer = new NdjsonWriter<>(mapper, out, (gen, c) -> {
+                gen.writeStartObject();
+                gen.writeNumberField("courseId", c.getCourseId());
+                gen.writeStringField("courseName", c.getCourseName());
+                gen.writeStringField("courseDesc", c.getCourseDesc());
+                gen.writeEndObject();
+            });
+            service.forEach(writer);
+            writer.finish();
+        };
+    }
+
+    @GetMapping("/student-counts")
+    public List<StudentCount> getStudentCounts() {
+        return service.countStudentsPerCourse();
+    }
+
     @GetMapping("/{id}")
     public Course get(@PathVariable int id) {
         return service.get(id);
@@ -35,8 +65,13 @@ public class CourseController {
     }
 
     @PutMapping("/{id}")
-    public Course update(@PathVariable int id, @RequestBody Course c) {
-        return service.save(c);
+    public ResponseEntity<Course> update(@PathVariable int id, @RequestBody Course c,
+                                         @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        Course updated = service.update(id, Versions.expected(ifMatch, c.getVersion()), c);
+        if (updated == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -45,8 +80,18 @@ public class CourseController {
     }
 
     @GetMapping("/{id}/students")
-    public Object getStudents(@PathVariable int id) {
+    public Object getStudents(@PathVariable int id, WebRequest request) {
+        String tag = service.getRosterTag(id);
+        if (tag != null && request.checkNotModified(tag)) {
+            return null;
+        }
         Course c = service.get(id);
         return c != null ? c.getStudents() : null;
     }
+
+    // Counted in the database, the students themselves are never loaded
+    @GetMapping("/{id}/students/count")
+    public long getStudentCount(@PathVariable int id) {
+        return service.countStudents(id);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package org.mthree.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+// Writes one JSON object per line straight to the response stream.
+// The first row is flushed right away so the client sees data immediately,
+// after that the output is flushed every FLUSH_EVERY rows.
+class NdjsonWriter<T> implements Consumer<T> {
+
+    interface RowWriter<T> {
+        void write(JsonGenerator gen, T row) throws IOException;
+    }
+
+    private static final int FLUSH_EVERY = 1000;
+
+    private final JsonGenerator gen;
+    private final RowWriter<T> rowWriter;
+    private int rows;
+
+    NdjsonWriter(ObjectMapper mapper, OutputStream out, RowWriter<T> rowWriter) throws IOException {
+        this.gen = mapper.createGenerator(out);
+        this.gen.setRootValueSeparator(null);
+        this.rowWriter = rowWriter;
+    }
+
+    @Override
+    public void accept(T row) {
+        try {
+            rowWriter.write(gen, row);
+            gen.writeRaw('\n');
+            if (++rows == 1 || rows % FLUSH_EVERY == 0) {
+                gen.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void finish() throws IOException {
+        gen.flush();
+    }
+}
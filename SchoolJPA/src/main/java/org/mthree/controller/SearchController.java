@@ -0,0 +1,29 @@
+package org.mthree.controller;
+
+import org.mthree.search.SchoolSearch;
+import org.mthree.search.SearchIndex.Hit;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+    private final SchoolSearch search;
+
+    public SearchController(SchoolSearch search) {
+        this.search = search;
+    }
+
+    // Prefix search, /search?q=lo finds every student or course with a word starting with "lo"
+    @GetMapping
+    public Map<String, List<Hit>> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        Map<String, List<Hit>> results = new LinkedHashMap<>();
+        results.put("students", search.searchStudents(q, limit));
+        results.put("courses", search.searchCourses(q, limit));
+        return results;
+    }
+}
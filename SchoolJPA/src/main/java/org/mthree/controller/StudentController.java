@@ -1,10 +1,15 @@
 package org.mthree.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mthree.entity.Student;
 import org.mthree.service.StudentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -13,9 +18,11 @@ import java.util.List;
 public class StudentController {
     @Autowired
     private final StudentService studentService;
+    private final ObjectMapper mapper;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, ObjectMapper mapper) {
         this.studentService = studentService;
+        this.mapper = mapper;
     }
 
     @GetMapping
@@ -23,8 +30,23 @@ public class StudentController {
         return studentService.getAll();
     }
 
+    // Streams every student as newline delimited JSON without building a List
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportStudents() {
+        return out -> {
+            NdjsonWriter<Student> writer = new NdjsonWriter<>(mapper, out, (gen, s) -> gen.writeObject(s));
+            studentService.forEach(writer);
+            writer.finish();
+        };
+    }
+
+    // Only the version column is read when the client's ETag is still current
     @GetMapping("/{id}")
-    public Student getStudentById(@PathVariable int id) {
+    public Student getStudentById(@PathVariable int id, WebRequest request) {
+        Integer version = studentService.getVersion(id);
+        if (version != null && request.checkNotModified(String.valueOf(version))) {
+            return null;
+        }
         return studentService.get(id);
     }
 
@@ -34,13 +56,13 @@ public class StudentController {
     }
 
     @PutMapping("/{id}")
-    public Student updateStudent(@PathVariable int id, @RequestBody Student student) {
-        Student studentExists = getStudentById(id);
-        if (studentExists != null) {
-            return studentService.save(student);
-        } else {
-            return null;
+    public ResponseEntity<Student> updateStudent(@PathVariable int id, @RequestBody Student student,
+                                                 @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        Student updated = studentService.update(id, Versions.expected(ifMatch, student.getVersion()), student);
+        if (updated == null) {
+            return ResponseEntity.notFound().build();
         }
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
     }
 
     @DeleteMapping("/{id}")
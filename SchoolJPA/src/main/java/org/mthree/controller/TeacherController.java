@@ -1,15 +1,25 @@
 package org.mthree.controller;
 
 import org.mthree.entity.Teacher;
+import org.mthree.repository.TeacherRepository.CourseCount;
+import org.mthree.repository.TeacherRepository.DepartmentTotals;
 import org.mthree.service.TeacherService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/teachers")
 public class TeacherController {
 
+    // Teachers hardly ever change, let clients and proxies reuse them for a few minutes
+    private static final CacheControl TEACHER_CACHE = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+
     private final TeacherService service;
 
     public TeacherController(TeacherService service) {
@@ -17,13 +27,27 @@ public class TeacherController {
     }
 
     @GetMapping
-    public List<Teacher> getAll() {
-        return service.getAll();
+    public ResponseEntity<List<Teacher>> getAll() {
+        return ResponseEntity.ok().cacheControl(TEACHER_CACHE).body(service.getAll());
+    }
+
+    @GetMapping("/course-counts")
+    public List<CourseCount> getCourseCounts() {
+        return service.countCoursesPerTeacher();
+    }
+
+    @GetMapping("/departments")
+    public List<DepartmentTotals> getDepartmentTotals() {
+        return service.departmentTotals();
     }
 
     @GetMapping("/{id}")
-    public Teacher get(@PathVariable int id) {
-        return service.get(id);
+    public ResponseEntity<Teacher> get(@PathVariable int id, WebRequest request) {
+        Integer version = service.getVersion(id);
+        if (version != null && request.checkNotModified(String.valueOf(version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(TEACHER_CACHE).build();
+        }
+        return ResponseEntity.ok().cacheControl(TEACHER_CACHE).body(service.get(id));
     }
 
     @PostMapping
@@ -32,8 +56,13 @@ public class TeacherController {
     }
 
     @PutMapping("/{id}")
-    public Teacher update(@PathVariable int id, @RequestBody Teacher t) {
-        return service.save(t);
+    public ResponseEntity<Teacher> update(@PathVariable int id, @RequestBody Teacher t,
+                                          @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        Teacher updated = service.update(id, Versions.expected(ifMatch, t.getVersion()), t);
+        if (updated == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,24 @@
+package org.mthree.controller;
+
+// Reads the version a PUT is based on. An If-Match header holding the ETag from the
+// GET wins over the version field in the body.
+final class Versions {
+
+    private Versions() {
+    }
+
+    static int expected(String ifMatch, int bodyVersion) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return bodyVersion;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Integer.parseInt(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            return bodyVersion;
+        }
+    }
+}
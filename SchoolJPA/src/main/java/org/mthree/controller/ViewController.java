@@ -0,0 +1,95 @@
+package org.mthree.controller;
+
+import org.mthree.entity.Course;
+import org.mthree.entity.Student;
+import org.mthree.service.CourseService;
+import org.mthree.service.StudentService;
+import org.mthree.service.TeacherService;
+import org.mthree.view.RowTemplateRenderer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// HTML pages for the students, courses and teachers templates. The top of the page is
+// sent before the first row is read and rows are flushed in batches while they stream
+// from the database, so big lists show up right away instead of after the whole page.
+@Controller
+@RequestMapping("/view")
+public class ViewController {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final StudentService studentService;
+    private final CourseService courseService;
+    private final TeacherService teacherService;
+    private final RowTemplateRenderer renderer;
+
+    public ViewController(StudentService studentService, CourseService courseService,
+                          TeacherService teacherService, RowTemplateRenderer renderer) {
+        this.studentService = studentService;
+        this.courseService = courseService;
+        this.teacherService = teacherService;
+        this.renderer = renderer;
+    }
+
+    @GetMapping("/students")
+    public ResponseEntity<StreamingResponseBody> students() {
+        return html(renderer.page("students", "students", Map.of()), rows ->
+                studentService.forEach(s -> rows.accept(studentRow("students", s))));
+    }
+
+    @GetMapping("/courses/{id}")
+    public ResponseEntity<StreamingResponseBody> course(@PathVariable int id) {
+        Course course = courseService.get(id);
+        if (course == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return html(renderer.page("courses", "students", Map.of("course", course)), rows ->
+                studentService.forEachInCourse(id, s -> rows.accept(studentRow("courses", s))));
+    }
+
+    // Teacher rows are not cached, a course moving to another teacher doesn't change the teacher's version
+    @GetMapping("/teachers")
+    public ResponseEntity<StreamingResponseBody> teachers() {
+        return html(renderer.page("teachers", "teachers", Map.of()), rows ->
+                teacherService.forEach(t -> rows.accept(renderer.row("teachers", "teachers", t))));
+    }
+
+    private String studentRow(String template, Student s) {
+        return renderer.cachedRow(template, "students", s, s.getStudentId() + ":" + s.getVersion());
+    }
+
+    private ResponseEntity<StreamingResponseBody> html(String[] page, Consumer<Consumer<String>> rowSource) {
+        StreamingResponseBody body = out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write(page[0]);
+            writer.flush();
+            int[] count = {0};
+            rowSource.accept(row -> {
+                try {
+                    writer.write(row);
+                    if (++count[0] % FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.write(page[1]);
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8)).body(body);
+    }
+}
@@ -3,16 +3,22 @@ package org.mthree.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.mthree.search.SearchIndexListener;
 
 import java.util.Set;
 
 @Data
 @Entity
+@EntityListeners(SearchIndexListener.class)
 public class Course {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int courseId;
 
+    // also bumped when the enrolled students change, since Course owns course_student
+    @Version
+    private int version;
+
     private String courseName;
     private String courseDesc;
 
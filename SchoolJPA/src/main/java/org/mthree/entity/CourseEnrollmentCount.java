@@ -0,0 +1,16 @@
+package org.mthree.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Precomputed number of students in each course, kept up to date by CourseService
+// when school.enrollment-counter.enabled=true so dashboards don't have to count
+@Data
+@Entity
+@Table(name = "course_enrollment_count")
+public class CourseEnrollmentCount {
+    @Id
+    private int courseId;
+
+    private long studentCount;
+}
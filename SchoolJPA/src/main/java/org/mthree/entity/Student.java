@@ -3,16 +3,21 @@ package org.mthree.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.mthree.search.SearchIndexListener;
 
 import java.util.Set;
 
 @Data
 @Entity
+@EntityListeners(SearchIndexListener.class)
 public class Student {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int studentId;
 
+    @Version
+    private int version;
+
     private String firstName;
     private String lastName;
 
@@ -13,6 +13,9 @@ public class Teacher {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int teacherId;
 
+    @Version
+    private int version;
+
     private String firstName;
     private String lastName;
     private String dept;
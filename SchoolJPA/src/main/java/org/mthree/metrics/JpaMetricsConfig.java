@@ -0,0 +1,41 @@
+package org.mthree.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// Turned on with school.jpa.metrics.enabled=true. Switches on Hibernate statistics, which
+// Actuator publishes as the hibernate.* metrics (queries, entity loads, cache hits) through
+// hibernate-micrometer, plus the
+// per repository method statement and entity load counts and the slow query log.
+// When it's off none of this is registered and Hibernate runs without any of it.
+@Configuration
+@ConditionalOnProperty(name = "school.jpa.metrics.enabled", havingValue = "true")
+public class JpaMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statisticsCustomizer(
+            @Value("${school.jpa.slow-query-ms:200}") long slowQueryMillis) {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, "true");
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new EntityLoadCounter()));
+            properties.put(AvailableSettings.LOG_SLOW_QUERY, String.valueOf(slowQueryMillis));
+        };
+    }
+
+    @Bean
+    public RepositoryMetricsAspect repositoryMetricsAspect(MeterRegistry registry,
+                                                           @Value("${school.jpa.slow-query-ms:200}") long slowQueryMillis) {
+        return new RepositoryMetricsAspect(registry, slowQueryMillis);
+    }
+}
@@ -0,0 +1,88 @@
+package org.mthree.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Records how many SQL statements each repository method runs and how many entities it
+// loads, and logs the calls that take longer than the slow query threshold. Call timing per
+// method is already published by Spring Boot as spring.data.repository.invocations.
+// Second level cache hits are only available as the global hibernate.second.level.cache.requests.
+@Aspect
+public class RepositoryMetricsAspect {
+
+    private static final Logger log = LoggerFactory.getLogger("org.mthree.SLOW_QUERY");
+
+    private final MeterRegistry registry;
+    private final long slowQueryNanos;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+    // the summaries of each repository proxy and method, so a call doesn't go through the registry
+    private final Map<Class<?>, Map<Method, Summaries>> summaries = new ConcurrentHashMap<>();
+
+    private record Summaries(DistributionSummary statements, DistributionSummary entities) {
+    }
+
+    public RepositoryMetricsAspect(MeterRegistry registry, long slowQueryMillis) {
+        this.registry = registry;
+        this.slowQueryNanos = slowQueryMillis * 1_000_000;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object measure(ProceedingJoinPoint call) throws Throwable {
+        int statementsBefore = StatementCounter.count();
+        int entitiesBefore = EntityLoadCounter.count();
+        long start = System.nanoTime();
+        try {
+            return call.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            int statements = StatementCounter.count() - statementsBefore;
+            int entities = EntityLoadCounter.count() - entitiesBefore;
+            Class<?> proxyClass = call.getThis().getClass();
+            Method method = ((MethodSignature) call.getSignature()).getMethod();
+            Summaries s = summaries(proxyClass, method);
+            s.statements().record(statements);
+            s.entities().record(entities);
+            if (elapsed >= slowQueryNanos) {
+                log.warn("{}.{} took {} ms, ran {} statements and loaded {} entities",
+                        repositoryName(proxyClass), method.getName(), elapsed / 1_000_000, statements, entities);
+            }
+        }
+    }
+
+    private Summaries summaries(Class<?> proxyClass, Method method) {
+        return summaries.computeIfAbsent(proxyClass, c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, m -> new Summaries(
+                        summary("school.repository.statements", "SQL statements run per repository call", proxyClass, m),
+                        summary("school.repository.entities", "Entities loaded per repository call", proxyClass, m)));
+    }
+
+    private DistributionSummary summary(String name, String description, Class<?> proxyClass, Method method) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("repository", repositoryName(proxyClass))
+                .tag("method", method.getName())
+                .register(registry);
+    }
+
+    // the proxy implements our repository interface, use its name rather than the proxy class
+    private String repositoryName(Class<?> proxyClass) {
+        return repositoryNames.computeIfAbsent(proxyClass, c -> {
+            for (Class<?> i : c.getInterfaces()) {
+                if (i.getPackageName().startsWith("org.mthree")) {
+                    return i.getSimpleName();
+                }
+            }
+            return c.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package org.mthree.repository;
+
+import org.mthree.entity.CourseEnrollmentCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CourseEnrollmentCountRepository extends JpaRepository<CourseEnrollmentCount, Integer> {
+
+    // Recounts one course in a single statement, inserting the row the first time
+    @Modifying
+    @Query(value = "INSERT INTO course_enrollment_count (course_id, student_count) " +
+            "SELECT :courseId, COUNT(*) FROM course_student WHERE course_id = :courseId " +
+            "ON DUPLICATE KEY UPDATE student_count = VALUES(student_count)", nativeQuery = true)
+    void refresh(@Param("courseId") int courseId);
+}
@@ -1,7 +1,62 @@
 package org.mthree.repository;
 
+import jakarta.persistence.QueryHint;
 import org.mthree.entity.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface CourseRepository extends JpaRepository<Course, Integer> {
+
+    interface StudentCount {
+        int getCourseId();
+        String getCourseName();
+        long getStudentCount();
+    }
+
+    interface RosterVersion {
+        int getVersion();
+        long getStudents();
+        long getStudentVersions();
+    }
+
+    // Rows are read from the cursor as the stream is consumed, must be used inside a transaction
+    @Query("select c from Course c")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Course> streamAll();
+
+    // Leaves the teacher and the enrolled students alone.
+    // Returns 0 when the course doesn't exist or the version is out of date
+    @Transactional
+    @Modifying
+    @Query("update Course c set c.courseName = :courseName, c.courseDesc = :courseDesc, " +
+            "c.version = c.version + 1 where c.courseId = :courseId and c.version = :version")
+    int update(@Param("courseId") int courseId, @Param("version") int version,
+               @Param("courseName") String courseName, @Param("courseDesc") String courseDesc);
+
+    // The course version changes when students are added or removed, the sum of the
+    // student versions changes when one of the enrolled students is edited
+    @Query("select c.version as version, count(s) as students, coalesce(sum(s.version), 0) as studentVersions " +
+            "from Course c left join c.students s where c.courseId = :courseId group by c.courseId, c.version")
+    RosterVersion findRosterVersion(@Param("courseId") int courseId);
+
+    @Query("select count(s) from Course c join c.students s where c.courseId = :courseId")
+    long countStudents(@Param("courseId") int courseId);
+
+    @Query("select c.courseId as courseId, c.courseName as courseName, count(s) as studentCount " +
+            "from Course c left join c.students s " +
+            "group by c.courseId, c.courseName order by c.courseId")
+    List<StudentCount> countStudentsPerCourse();
 }
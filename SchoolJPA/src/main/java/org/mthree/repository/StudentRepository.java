@@ -1,7 +1,44 @@
 package org.mthree.repository;
 
+import jakarta.persistence.QueryHint;
 import org.mthree.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface StudentRepository extends JpaRepository<Student, Integer> {
+
+    // Rows are read from the cursor as the stream is consumed, must be used inside a transaction
+    @Query("select s from Student s")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Student> streamAll();
+
+    @Query("select s from Course c join c.students s where c.courseId = :courseId")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Student> streamByCourse(@Param("courseId") int courseId);
+
+    // Returns 0 when the student doesn't exist or the version is out of date
+    @Transactional
+    @Modifying
+    @Query("update Student s set s.firstName = :firstName, s.lastName = :lastName, s.version = s.version + 1 " +
+            "where s.studentId = :studentId and s.version = :version")
+    int update(@Param("studentId") int studentId, @Param("version") int version,
+               @Param("firstName") String firstName, @Param("lastName") String lastName);
+
+    @Query("select s.version from Student s where s.studentId = :studentId")
+    Integer findVersion(@Param("studentId") int studentId);
 }
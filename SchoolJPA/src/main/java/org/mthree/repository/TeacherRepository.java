@@ -1,7 +1,68 @@
 package org.mthree.repository;
 
+import jakarta.persistence.QueryHint;
 import org.mthree.entity.Teacher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TeacherRepository extends JpaRepository<Teacher, Integer> {
+
+    interface CourseCount {
+        int getTeacherId();
+        String getFirstName();
+        String getLastName();
+        long getCourseCount();
+    }
+
+    interface DepartmentTotals {
+        String getDept();
+        long getTeachers();
+        long getCourses();
+        long getStudents();
+    }
+
+    // Rows are read from the cursor as the stream is consumed, must be used inside a transaction.
+    // The courses come in the same query, the teachers page renders them for every row. Hibernate
+    // folds consecutive rows of one teacher into a single entity, hence the order by.
+    @Query("select t from Teacher t left join fetch t.courses order by t.teacherId")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Teacher> streamAll();
+
+    // Returns 0 when the teacher doesn't exist or the version is out of date
+    @Transactional
+    @Modifying
+    @Query("update Teacher t set t.firstName = :firstName, t.lastName = :lastName, t.dept = :dept, " +
+            "t.version = t.version + 1 where t.teacherId = :teacherId and t.version = :version")
+    int update(@Param("teacherId") int teacherId, @Param("version") int version,
+               @Param("firstName") String firstName, @Param("lastName") String lastName,
+               @Param("dept") String dept);
+
+    @Query("select t.version from Teacher t where t.teacherId = :teacherId")
+    Integer findVersion(@Param("teacherId") int teacherId);
+
+    @Query("select t.teacherId as teacherId, t.firstName as firstName, t.lastName as lastName, " +
+            "count(c) as courseCount " +
+            "from Teacher t left join t.courses c " +
+            "group by t.teacherId, t.firstName, t.lastName order by t.teacherId")
+    List<CourseCount> countCoursesPerTeacher();
+
+    // A student taking two courses in the same department is only counted once
+    @Query("select t.dept as dept, count(distinct t) as teachers, count(distinct c) as courses, " +
+            "count(distinct s) as students " +
+            "from Teacher t left join t.courses c left join c.students s " +
+            "group by t.dept order by t.dept")
+    List<DepartmentTotals> departmentTotals();
 }
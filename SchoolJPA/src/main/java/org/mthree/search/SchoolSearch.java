@@ -0,0 +1,92 @@
+package org.mthree.search;
+
+import org.mthree.entity.Course;
+import org.mthree.entity.Student;
+import org.mthree.search.SearchIndex.Hit;
+import org.mthree.service.CourseService;
+import org.mthree.service.EntityUpdatedEvent;
+import org.mthree.service.StudentService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Holds the student and course search indexes. They are filled from the database once
+// at startup and then kept current by SearchIndexListener as entities change.
+@Component
+public class SchoolSearch {
+
+    private volatile SearchIndex students = new SearchIndex();
+    private volatile SearchIndex courses = new SearchIndex();
+
+    // Entity changes take the read lock and a rebuild the write lock: a change committed while
+    // the rebuild is reading the tables waits and is applied to the new indexes afterwards,
+    // instead of being wiped or overwritten with the older row the rebuild read
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private final StudentService studentService;
+    private final CourseService courseService;
+
+    public SchoolSearch(StudentService studentService, CourseService courseService) {
+        this.studentService = studentService;
+        this.courseService = courseService;
+    }
+
+    // Searches keep using the current indexes until the new ones are complete
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            SearchIndex newStudents = new SearchIndex();
+            SearchIndex newCourses = new SearchIndex();
+            studentService.forEach(s -> newStudents.put(s.getStudentId(), s.getFirstName(), s.getLastName()));
+            courseService.forEach(c -> newCourses.put(c.getCourseId(), c.getCourseName(), c.getCourseDesc()));
+            students = newStudents;
+            courses = newCourses;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void updated(EntityUpdatedEvent event) {
+        index(event.entity());
+    }
+
+    public List<Hit> searchStudents(String query, int limit) {
+        return students.search(query, limit);
+    }
+
+    public List<Hit> searchCourses(String query, int limit) {
+        return courses.search(query, limit);
+    }
+
+    void index(Object entity) {
+        rebuildLock.readLock().lock();
+        try {
+            if (entity instanceof Student s) {
+                students.put(s.getStudentId(), s.getFirstName(), s.getLastName());
+            } else if (entity instanceof Course c) {
+                courses.put(c.getCourseId(), c.getCourseName(), c.getCourseDesc());
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    void remove(Object entity) {
+        rebuildLock.readLock().lock();
+        try {
+            if (entity instanceof Student s) {
+                students.remove(s.getStudentId());
+            } else if (entity instanceof Course c) {
+                courses.remove(c.getCourseId());
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.mthree.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// In memory inverted index that answers word prefix queries.
+// Every word of a document points to the ids containing it, and the words are kept
+// sorted so all words starting with a prefix are one range of the sorted set.
+// Postings are changed with ConcurrentHashMap.compute, which runs atomically per word, and the
+// sorted set is changed inside the same call; a document is (re)indexed inside docs.compute,
+// so two updates of one id never interleave.
+public class SearchIndex {
+
+    public record Hit(int id, String text) {
+    }
+
+    private record Doc(Hit hit, String[] words) {
+    }
+
+    private final ConcurrentHashMap<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<String> words = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<Integer, Doc> docs = new ConcurrentHashMap<>();
+
+    public void put(int id, String... fields) {
+        StringBuilder text = new StringBuilder();
+        for (String field : fields) {
+            if (field != null && !field.isBlank()) {
+                if (text.length() > 0) {
+                    text.append(' ');
+                }
+                text.append(field.trim());
+            }
+        }
+        Doc doc = new Doc(new Hit(id, text.toString()), tokenize(text.toString()));
+        docs.compute(id, (key, old) -> {
+            if (old != null) {
+                unindex(id, old.words());
+            }
+            for (String word : doc.words()) {
+                postings.compute(word, (w, ids) -> {
+                    if (ids == null) {
+                        ids = ConcurrentHashMap.newKeySet();
+                        words.add(w);
+                    }
+                    ids.add(id);
+                    return ids;
+                });
+            }
+            return doc;
+        });
+    }
+
+    public void remove(int id) {
+        docs.computeIfPresent(id, (key, old) -> {
+            unindex(id, old.words());
+            return null;
+        });
+    }
+
+    private void unindex(int id, String[] docWords) {
+        for (String word : docWords) {
+            postings.computeIfPresent(word, (w, ids) -> {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    words.remove(w);
+                    return null;
+                }
+                return ids;
+            });
+        }
+    }
+
+    public void clear() {
+        for (Integer id : docs.keySet()) {
+            remove(id);
+        }
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    // Every query word has to be the start of some word in the document, so "lo we"
+    // finds "Guafrid Lopez" only if a word starting with "we" is in there as well
+    public List<Hit> search(String query, int limit) {
+        String[] terms = tokenize(query);
+        List<Hit> hits = new ArrayList<>();
+        if (terms.length == 0 || limit <= 0) {
+            return hits;
+        }
+        // walk the longest term since it matches the fewest words, check the others per document
+        String driver = terms[0];
+        for (String term : terms) {
+            if (term.length() > driver.length()) {
+                driver = term;
+            }
+        }
+        Set<Integer> seen = new HashSet<>();
+        for (String word : prefixRange(driver)) {
+            Set<Integer> ids = postings.get(word);
+            if (ids == null) {
+                continue;
+            }
+            for (Integer id : ids) {
+                Doc doc = docs.get(id);
+                if (doc != null && seen.add(id) && matchesAll(doc, terms)) {
+                    hits.add(doc.hit());
+                    if (hits.size() == limit) {
+                        return hits;
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    private NavigableSet<String> prefixRange(String prefix) {
+        return words.subSet(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private static boolean matchesAll(Doc doc, String[] terms) {
+        for (String term : terms) {
+            boolean found = false;
+            for (String word : doc.words()) {
+                if (word.startsWith(term)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(w -> !w.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
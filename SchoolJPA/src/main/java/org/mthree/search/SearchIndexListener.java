@@ -0,0 +1,46 @@
+package org.mthree.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// JPA entity listener for Student and Course. Hibernate gets it from the Spring context,
+// and the index is only touched once the transaction has committed so a rollback
+// never leaves words behind for rows that don't exist.
+@Component
+public class SearchIndexListener {
+
+    private final SchoolSearch search;
+
+    public SearchIndexListener(@Lazy SchoolSearch search) {
+        this.search = search;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Object entity) {
+        afterCommit(() -> search.index(entity));
+    }
+
+    @PostRemove
+    public void removed(Object entity) {
+        afterCommit(() -> search.remove(entity));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,31 +1,149 @@
 package org.mthree.service;
 
+import jakarta.persistence.EntityManager;
 import org.mthree.entity.Course;
+import org.mthree.entity.CourseEnrollmentCount;
+import org.mthree.entity.Student;
+import org.mthree.repository.CourseEnrollmentCountRepository;
 import org.mthree.repository.CourseRepository;
+import org.mthree.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class CourseService {
     private final CourseRepository repo;
+    private final CourseEnrollmentCountRepository counts;
+    private final StudentRepository students;
+    private final EntityManager em;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate tx;
+    private final boolean counterEnabled;
 
-    public CourseService(CourseRepository repo) {
+    public CourseService(CourseRepository repo, CourseEnrollmentCountRepository counts,
+                         StudentRepository students, EntityManager em,
+                         ApplicationEventPublisher events, PlatformTransactionManager transactionManager,
+                         @Value("${school.enrollment-counter.enabled:false}") boolean counterEnabled) {
         this.repo = repo;
+        this.counts = counts;
+        this.students = students;
+        this.em = em;
+        this.events = events;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.counterEnabled = counterEnabled;
     }
 
     public List<Course> getAll() {
         return repo.findAll();
     }
 
+    // Hands every course to the consumer one at a time, detaching each one
+    // afterwards so the persistence context never grows with the table
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Course> consumer) {
+        try (Stream<Course> courses = repo.streamAll()) {
+            courses.forEach(c -> {
+                consumer.accept(c);
+                em.detach(c);
+            });
+        }
+    }
+
     public Course get(int id) {
         return repo.findById(id).orElse(null);
     }
 
+    // ETag value for the student list of a course, null when the course doesn't exist
+    public String getRosterTag(int id) {
+        CourseRepository.RosterVersion v = repo.findRosterVersion(id);
+        return v != null ? v.getVersion() + "-" + v.getStudents() + "-" + v.getStudentVersions() : null;
+    }
+
+    public long countStudents(int id) {
+        if (counterEnabled) {
+            return counts.findById(id).map(CourseEnrollmentCount::getStudentCount).orElse(0L);
+        }
+        return repo.countStudents(id);
+    }
+
+    public List<CourseRepository.StudentCount> countStudentsPerCourse() {
+        return repo.countStudentsPerCourse();
+    }
+
+    @Transactional
     public Course save(Course c) {
-        return repo.save(c);
+        Course saved = repo.save(c);
+        if (counterEnabled) {
+            // push the join table rows out before recounting them
+            repo.flush();
+            counts.refresh(saved.getCourseId());
+        }
+        return saved;
+    }
+
+    // Name and description changes are one UPDATE ... WHERE version = ?. When the body also
+    // carries the enrolled students the course is loaded and merged instead, with the same
+    // version check. Returns null when there's no such course, throws when the version is stale.
+    public Course update(int id, int version, Course changes) {
+        if (changes.getStudents() != null) {
+            return TransientRetry.run(() -> tx.execute(status -> updateWithStudents(id, version, changes)));
+        }
+        int rows = TransientRetry.run(() ->
+                repo.update(id, version, changes.getCourseName(), changes.getCourseDesc()));
+        if (rows == 0) {
+            if (!repo.existsById(id)) {
+                return null;
+            }
+            throw new ObjectOptimisticLockingFailureException(Course.class, id);
+        }
+        Course updated = new Course();
+        updated.setCourseId(id);
+        updated.setVersion(version + 1);
+        updated.setCourseName(changes.getCourseName());
+        updated.setCourseDesc(changes.getCourseDesc());
+        events.publishEvent(new EntityUpdatedEvent(updated));
+        return updated;
+    }
+
+    private Course updateWithStudents(int id, int version, Course changes) {
+        Course current = repo.findById(id).orElse(null);
+        if (current == null) {
+            return null;
+        }
+        if (current.getVersion() != version) {
+            throw new ObjectOptimisticLockingFailureException(Course.class, id);
+        }
+        List<Integer> studentIds = changes.getStudents().stream()
+                .map(Student::getStudentId)
+                .collect(Collectors.toList());
+        current.setCourseName(changes.getCourseName());
+        current.setCourseDesc(changes.getCourseDesc());
+        current.setStudents(new HashSet<>(students.findAllById(studentIds)));
+        repo.flush();
+        if (counterEnabled) {
+            counts.refresh(id);
+        }
+        return current;
     }
 
+    // The counter row references the course, so it has to be queued for deletion first:
+    // Hibernate flushes deletes in the order they were made
+    @Transactional
     public void delete(int id) {
+        if (counterEnabled) {
+            counts.deleteById(id);
+        }
         repo.deleteById(id);
     }
 }
@@ -0,0 +1,5 @@
+package org.mthree.service;
+
+// Published after a bulk JPQL update, those skip the JPA entity listeners
+public record EntityUpdatedEvent(Object entity) {
+}
@@ -1,31 +1,89 @@
 package org.mthree.service;
 
+import jakarta.persistence.EntityManager;
 import org.mthree.entity.Student;
 import org.mthree.repository.StudentRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class StudentService {
 
     private final StudentRepository repo;
+    private final EntityManager em;
+    private final ApplicationEventPublisher events;
 
-    public StudentService(StudentRepository repo) {
+    public StudentService(StudentRepository repo, EntityManager em, ApplicationEventPublisher events) {
         this.repo = repo;
+        this.em = em;
+        this.events = events;
     }
 
     public List<Student> getAll() {
         return repo.findAll();
     }
 
+    // Hands every student to the consumer one at a time, detaching each one
+    // afterwards so the persistence context never grows with the table
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Student> consumer) {
+        try (Stream<Student> students = repo.streamAll()) {
+            students.forEach(s -> {
+                consumer.accept(s);
+                em.detach(s);
+            });
+        }
+    }
+
+    // Same as forEach but only for the students enrolled in one course
+    @Transactional(readOnly = true)
+    public void forEachInCourse(int courseId, Consumer<Student> consumer) {
+        try (Stream<Student> students = repo.streamByCourse(courseId)) {
+            students.forEach(s -> {
+                consumer.accept(s);
+                em.detach(s);
+            });
+        }
+    }
+
     public Student get(int id) {
         return repo.findById(id).orElse(null);
     }
 
+    public Integer getVersion(int id) {
+        return repo.findVersion(id);
+    }
+
     public Student save(Student s) {
         return repo.save(s);
     }
 
+    // One UPDATE ... WHERE version = ? instead of a read followed by a merge.
+    // Returns null when there's no such student, throws when the version is stale.
+    public Student update(int id, int version, Student changes) {
+        int rows = TransientRetry.run(() ->
+                repo.update(id, version, changes.getFirstName(), changes.getLastName()));
+        if (rows == 0) {
+            if (!repo.existsById(id)) {
+                return null;
+            }
+            throw new ObjectOptimisticLockingFailureException(Student.class, id);
+        }
+        Student updated = new Student();
+        updated.setStudentId(id);
+        updated.setVersion(version + 1);
+        updated.setFirstName(changes.getFirstName());
+        updated.setLastName(changes.getLastName());
+        events.publishEvent(new EntityUpdatedEvent(updated));
+        return updated;
+    }
+
     public void delete(int id) {
         repo.deleteById(id);
     }
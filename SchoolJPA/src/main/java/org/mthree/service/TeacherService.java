@@ -1,31 +1,90 @@
 package org.mthree.service;
 
+import jakarta.persistence.EntityManager;
 import org.mthree.entity.Teacher;
 import org.mthree.repository.TeacherRepository;
+import org.mthree.repository.TeacherRepository.CourseCount;
+import org.mthree.repository.TeacherRepository.DepartmentTotals;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TeacherService {
 
     private final TeacherRepository repo;
+    private final EntityManager em;
+    private final ApplicationEventPublisher events;
 
-    public TeacherService(TeacherRepository repo) {
+    public TeacherService(TeacherRepository repo, EntityManager em, ApplicationEventPublisher events) {
         this.repo = repo;
+        this.em = em;
+        this.events = events;
     }
 
     public List<Teacher> getAll() {
         return repo.findAll();
     }
 
+    // Hands every teacher to the consumer one at a time, detaching each one
+    // afterwards so the persistence context never grows with the table
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Teacher> consumer) {
+        try (Stream<Teacher> teachers = repo.streamAll()) {
+            teachers.forEach(t -> {
+                consumer.accept(t);
+                t.getCourses().forEach(em::detach);
+                em.detach(t);
+            });
+        }
+    }
+
     public Teacher get(int id) {
         return repo.findById(id).orElse(null);
     }
 
+    public Integer getVersion(int id) {
+        return repo.findVersion(id);
+    }
+
+    public List<CourseCount> countCoursesPerTeacher() {
+        return repo.countCoursesPerTeacher();
+    }
+
+    public List<DepartmentTotals> departmentTotals() {
+        return repo.departmentTotals();
+    }
+
     public Teacher save(Teacher t) {
         return repo.save(t);
     }
 
+    // One UPDATE ... WHERE version = ? instead of a read followed by a merge.
+    // Returns null when there's no such teacher, throws when the version is stale.
+    public Teacher update(int id, int version, Teacher changes) {
+        int rows = TransientRetry.run(() ->
+                repo.update(id, version, changes.getFirstName(), changes.getLastName(), changes.getDept()));
+        if (rows == 0) {
+            if (!repo.existsById(id)) {
+                return null;
+            }
+            throw new ObjectOptimisticLockingFailureException(Teacher.class, id);
+        }
+        Teacher updated = new Teacher();
+        updated.setTeacherId(id);
+        updated.setVersion(version + 1);
+        updated.setFirstName(changes.getFirstName());
+        updated.setLastName(changes.getLastName());
+        updated.setDept(changes.getDept());
+        events.publishEvent(new EntityUpdatedEvent(updated));
+        return updated;
+    }
+
     public void delete(int id) {
         repo.deleteById(id);
     }
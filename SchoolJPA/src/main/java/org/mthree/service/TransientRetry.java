@@ -0,0 +1,38 @@
+package org.mthree.service;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessException;
+
+import java.util.function.Supplier;
+
+// Reruns a write that failed for a reason that can go away on its own, like a deadlock
+// or a lock wait timeout when many requests update the same rows. A stale version is
+// not retried since trying again with the same version can never succeed.
+final class TransientRetry {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_MILLIS = 20;
+
+    private TransientRetry() {
+    }
+
+    static <T> T run(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                throw e;
+            } catch (TransientDataAccessException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+}
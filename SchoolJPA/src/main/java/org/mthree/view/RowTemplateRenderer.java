@@ -0,0 +1,68 @@
+package org.mthree.view;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Renders the list templates in pieces so a page can be streamed.
+// Each list template marks its repeated element with th:fragment="row" and leaves a
+// <!-- rows --> comment where the rows belong. The page around the rows is rendered once
+// with an empty list and split on that comment, every row is rendered on its own
+// through the "row" fragment.
+@Component
+public class RowTemplateRenderer {
+
+    static final String ROWS_MARKER = "<!-- rows -->";
+
+    private final SpringTemplateEngine engine;
+    private final Map<String, String> rowCache;
+
+    public RowTemplateRenderer(SpringTemplateEngine engine,
+                               @Value("${school.views.row-cache-size:100000}") int rowCacheSize) {
+        this.engine = engine;
+        // least recently used rows are dropped once the cache is full
+        this.rowCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > rowCacheSize;
+            }
+        });
+    }
+
+    // Returns the markup before and after the rows
+    public String[] page(String template, String listName, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        context.setVariable(listName, List.of());
+        String page = engine.process(template, context);
+        int marker = page.indexOf(ROWS_MARKER);
+        if (marker < 0) {
+            throw new IllegalStateException("Template " + template + " has no " + ROWS_MARKER + " marker");
+        }
+        return new String[]{page.substring(0, marker), page.substring(marker + ROWS_MARKER.length())};
+    }
+
+    public String row(String template, String listName, Object item) {
+        Context context = new Context();
+        context.setVariable(listName, List.of(item));
+        return engine.process(template, Set.of("row"), context);
+    }
+
+    // The key has to change whenever the row would render differently, e.g. the entity version
+    public String cachedRow(String template, String listName, Object item, String key) {
+        String cacheKey = template + ':' + key;
+        String html = rowCache.get(cacheKey);
+        if (html == null) {
+            html = row(template, listName, item);
+            rowCache.put(cacheKey, html);
+        }
+        return html;
+    }
+}
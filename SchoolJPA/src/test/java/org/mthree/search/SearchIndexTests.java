@@ -0,0 +1,126 @@
+package org.mthree.search;
+
+import org.junit.jupiter.api.Test;
+import org.mthree.search.SearchIndex.Hit;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTests {
+
+    private static Set<Integer> ids(List<Hit> hits) {
+        return hits.stream().map(Hit::id).collect(Collectors.toSet());
+    }
+
+    @Test
+    void putIndexesEveryWordForPrefixSearch() {
+        SearchIndex index = new SearchIndex();
+        index.put(1, "Guafrid", "Lopez");
+        index.put(2, "Lorna", "Weston");
+
+        assertEquals(Set.of(1, 2), ids(index.search("lo", 10)));
+        assertEquals(Set.of(1), ids(index.search("GUA", 10)));
+        assertEquals("Guafrid Lopez", index.search("lopez", 10).get(0).text());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void everyQueryWordMustMatch() {
+        SearchIndex index = new SearchIndex();
+        index.put(1, "Guafrid", "Lopez");
+        index.put(2, "Lorna", "Weston");
+
+        assertEquals(Set.of(2), ids(index.search("lo we", 10)));
+        assertTrue(index.search("lo xyz", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void searchStopsAtLimit() {
+        SearchIndex index = new SearchIndex();
+        for (int id = 1; id <= 20; id++) {
+            index.put(id, "Student", "Number" + id);
+        }
+        assertEquals(5, index.search("stu", 5).size());
+        assertTrue(index.search("stu", 0).isEmpty());
+    }
+
+    @Test
+    void putAgainReplacesTheOldWords() {
+        SearchIndex index = new SearchIndex();
+        index.put(1, "Intro to Java");
+        index.put(1, "Advanced Python");
+
+        assertTrue(index.search("java", 10).isEmpty());
+        assertEquals(Set.of(1), ids(index.search("pyth", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void removeDropsTheDocument() {
+        SearchIndex index = new SearchIndex();
+        index.put(1, "Intro to Java");
+        index.put(2, "Java Streams");
+        index.remove(1);
+        index.remove(99);
+
+        assertEquals(Set.of(2), ids(index.search("java", 10)));
+        assertTrue(index.search("intro", 10).isEmpty());
+        assertEquals(1, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.search("java", 10).isEmpty());
+    }
+
+    // Threads keep adding and removing their own ids under one shared word, so the word's id set
+    // is emptied and recreated over and over. An id must be findable right after its put.
+    @Test
+    void concurrentPutAndRemoveKeepEveryId() throws Exception {
+        SearchIndex index = new SearchIndex();
+        int threads = 8;
+        int rounds = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger lost = new AtomicInteger();
+        try {
+            Future<?>[] tasks = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int id = t + 1;
+                tasks[t] = pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < rounds; i++) {
+                        index.put(id, "common", "word" + (i % 3));
+                        if (!ids(index.search("common", threads)).contains(id)) {
+                            lost.incrementAndGet();
+                        }
+                        index.remove(id);
+                    }
+                    index.put(id, "common", "final");
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(0, lost.get());
+        assertEquals(threads, index.size());
+        assertEquals(threads, index.search("common", 100).size());
+        assertEquals(threads, index.search("final", 100).size());
+        assertTrue(index.search("word", 100).isEmpty());
+    }
+}
@@ -0,0 +1,42 @@
+package org.mthree.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mthree.repository.CourseEnrollmentCountRepository;
+import org.mthree.repository.CourseRepository;
+import org.mthree.repository.StudentRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.mockito.Mockito.*;
+
+class CourseServiceTests {
+
+    private final CourseRepository repo = mock(CourseRepository.class);
+    private final CourseEnrollmentCountRepository counts = mock(CourseEnrollmentCountRepository.class);
+
+    private CourseService service(boolean counterEnabled) {
+        return new CourseService(repo, counts, mock(StudentRepository.class), mock(EntityManager.class),
+                mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class), counterEnabled);
+    }
+
+    // course_enrollment_count.course_id references course, Hibernate flushes deletes
+    // in the order they were queued, so the counter row has to go first
+    @Test
+    void deleteRemovesCounterRowBeforeCourse() {
+        service(true).delete(5);
+
+        InOrder order = inOrder(counts, repo);
+        order.verify(counts).deleteById(5);
+        order.verify(repo).deleteById(5);
+    }
+
+    @Test
+    void deleteLeavesCounterAloneWhenDisabled() {
+        service(false).delete(5);
+
+        verify(repo).deleteById(5);
+        verifyNoInteractions(counts);
+    }
+}